@@ -5,22 +5,35 @@
 
 package client.app;
 
+import client.config.GameConfig;
 import client.event.GameEvent.*;
 import client.event.GameEventListener;
 import client.network.MessageHandler;
 
 import game.model.GameRoom;
+import game.protocol.BinaryCodec;
+import game.protocol.MessageInput;
+import game.protocol.MessageReader;
+import game.protocol.ProtocolText;
+import game.protocol.Topic;
+import game.protocol.WireFormat;
 
 import java.io.*;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.*;
 import java.util.logging.Logger;
 
 public class GameClient implements AutoCloseable {
     private static final Logger logger = Logger.getLogger(GameClient.class.getName());
     private Socket socket;
-    private BufferedReader reader;
-    private PrintWriter writer;
+    private MessageInput reader;
+    private OutputStream writer;
+    // 서버와 협상된 전송 형식, PROTOCOL 응답을 받기 전까지는 TEXT
+    private volatile WireFormat wireFormat = WireFormat.TEXT;
     private final MessageHandler messageHandler;
     private GameEventListener eventListener;
     private final String username;
@@ -29,6 +42,8 @@ public class GameClient implements AutoCloseable {
     private final String host;
     private final int port;
     private GameRoom currentRoom;
+    // 서버에 구독 중인 주제, 서버는 접속 직후 lobby 와 global-stats 를 구독시킴
+    private final Set<String> subscriptions = new HashSet<>();
 
     public GameClient(String host, int port, String username) {
         this.host = host;
@@ -51,12 +66,16 @@ public class GameClient implements AutoCloseable {
 
         try {
             socket = new Socket(host, port);
-            reader = new BufferedReader(new InputStreamReader(socket.getInputStream()));
-            writer = new PrintWriter(new OutputStreamWriter(socket.getOutputStream()), true);
+            reader = new MessageInput(socket.getInputStream());
+            writer = new BufferedOutputStream(socket.getOutputStream());
 
             isRunning = true;
-            sendMessage(ClientCommand.LOGIN + "|" + username);
-            sendMessage(ClientCommand.ROOM_LIST);
+            synchronized (subscriptions) {
+                subscriptions.clear();
+                subscriptions.add(Topic.LOBBY);
+                subscriptions.add(Topic.GLOBAL_STATS);
+            }
+            negotiateWireFormat();
             startMessageReceiver();
 
             logger.info("서버에 연결되었습니다: " + host + ":" + port);
@@ -66,6 +85,37 @@ public class GameClient implements AutoCloseable {
         }
     }
 
+    /**
+     * 로그인하면서 설정된 전송 형식(client.protocol, 기본값 BINARY)을 요청합니다.
+     * 서버의 PROTOCOL 응답은 수신 스레드에서 {@link #switchWireFormat(WireFormat)} 으로 처리합니다.
+     * PROTOCOL 을 모르는 기존 서버는 응답하지 않으므로 계속 텍스트로 주고받습니다.
+     */
+    private void negotiateWireFormat() {
+        WireFormat requested = WireFormat.fromString(
+                GameConfig.getProperty(GameConfig.PROTOCOL, WireFormat.BINARY.name()));
+        if (requested == WireFormat.TEXT) {
+            sendMessage(ClientCommand.LOGIN + "|" + ProtocolText.escape(username));
+        } else {
+            sendMessage(ClientCommand.LOGIN + "|" + ProtocolText.escape(username) + "|" + requested.name());
+        }
+    }
+
+    /**
+     * 서버가 PROTOCOL 로 형식을 알려왔을 때 수신 스레드에서 호출됩니다.
+     * 다음 메시지부터 새 형식으로 읽고, 확인 응답(텍스트)을 보낸 뒤부터 새 형식으로 보냅니다.
+     *
+     * @param format 서버가 수락한 전송 형식
+     */
+    public synchronized void switchWireFormat(WireFormat format) {
+        if (format == wireFormat || reader == null) {
+            return;
+        }
+        reader.setFormat(format);
+        sendMessage(ServerMessage.PROTOCOL + "|" + format.name());
+        wireFormat = format;
+        logger.info("전송 형식: " + format);
+    }
+
     /**
      * 메시지 수신 작업을 시작
      * 별도의 스레드에서 서버로부터 지속적으로 메시지를 읽어 처리
@@ -73,8 +123,8 @@ public class GameClient implements AutoCloseable {
     private void startMessageReceiver() {
         executorService.submit(() -> {
             try {
-                String message;
-                while (isRunning && (message = reader.readLine()) != null) {
+                MessageReader message;
+                while (isRunning && (message = reader.read()) != null) {
                     messageHandler.handleMessage(message);
                 }
             } catch (IOException e) {
@@ -90,10 +140,19 @@ public class GameClient implements AutoCloseable {
      * 서버에 지정된 메시지를 전송
      * @param message 서버로 보낼 메시지
      */
-    public void sendMessage(String message) {
+    public synchronized void sendMessage(String message) {
         if (writer != null && isConnected()) {
-            writer.println(message);
-            logger.info("메시지 전송: " + message);
+            try {
+                if (wireFormat == WireFormat.BINARY) {
+                    writer.write(BinaryCodec.encode(message));
+                } else {
+                    writer.write((message + "\n").getBytes(StandardCharsets.UTF_8));
+                }
+                writer.flush();
+                logger.info("메시지 전송: " + message);
+            } catch (IOException e) {
+                logger.warning("메시지 전송 실패: " + e.getMessage());
+            }
         } else {
             logger.warning("메시지 전송 실패 (연결 없음): " + message);
         }
@@ -104,7 +163,48 @@ public class GameClient implements AutoCloseable {
      * @param roomId 요청할 방 ID
      */
     public void sendPlayerListRequest(String roomId) {
-        sendMessage(ClientCommand.ROOM_LIST + "|" + roomId);
+        sendMessage(ClientCommand.PLAYER_LIST + "|" + roomId);
+    }
+
+    /**
+     * 전체 방 목록(ROOM_SNAPSHOT)을 요청합니다. 이후 방 목록은 변경분(ROOM_ADDED 등)으로 받습니다.
+     *
+     * @param knownVersion 마지막으로 반영한 방 목록 버전, 없으면 -1
+     */
+    public void sendRoomListRequest(int knownVersion) {
+        sendMessage(ClientCommand.ROOM_LIST + "|" + knownVersion);
+    }
+
+    /**
+     * 현재 화면에 필요한 주제만 구독하도록 서버의 구독 목록을 맞춥니다.
+     * 바뀐 주제만 SUBSCRIBE / UNSUBSCRIBE 로 보냅니다. 방 주제는 서버가 입장/퇴장에 맞춰 관리합니다.
+     *
+     * @param topics 구독할 주제 (game.protocol.Topic), 없으면 모두 해제
+     */
+    public void setSubscriptions(String... topics) {
+        Set<String> wanted = new HashSet<>(Arrays.asList(topics));
+        StringBuilder unsubscribe = new StringBuilder(ClientCommand.UNSUBSCRIBE);
+        StringBuilder subscribe = new StringBuilder(ClientCommand.SUBSCRIBE);
+        synchronized (subscriptions) {
+            for (String topic : subscriptions) {
+                if (!wanted.contains(topic)) {
+                    unsubscribe.append('|').append(topic);
+                }
+            }
+            for (String topic : wanted) {
+                if (!subscriptions.contains(topic)) {
+                    subscribe.append('|').append(topic);
+                }
+            }
+            subscriptions.clear();
+            subscriptions.addAll(wanted);
+        }
+        if (unsubscribe.length() > ClientCommand.UNSUBSCRIBE.length()) {
+            sendMessage(unsubscribe.toString());
+        }
+        if (subscribe.length() > ClientCommand.SUBSCRIBE.length()) {
+            sendMessage(subscribe.toString());
+        }
     }
 
     /**
@@ -113,8 +213,8 @@ public class GameClient implements AutoCloseable {
      */
     public void sendCreateRoomRequest(GameRoom room) {
         String message = String.format(ClientCommand.CREATE_ROOM + "|%s|%s|%s|%s|%d",
-                room.getRoomName(),
-                room.getPassword(),
+                ProtocolText.escape(room.getRoomName()),
+                ProtocolText.escape(room.getPassword()),
                 room.getGameMode().name(),
                 room.getDifficulty().name(),
                 room.getMaxPlayers()
@@ -125,7 +225,7 @@ public class GameClient implements AutoCloseable {
     public void sendJoinRoomRequest(String roomId, String password) {
         StringBuilder message = new StringBuilder(ClientCommand.JOIN_ROOM + "|" + roomId);
         if (password != null && !password.isEmpty()) {
-            message.append("|").append(password);
+            message.append("|").append(ProtocolText.escape(password));
         }
         sendMessage(message.toString());
     }
@@ -141,12 +241,12 @@ public class GameClient implements AutoCloseable {
 
         if (eventListener != null) {
             eventListener.onGameEvent(ClientEvent.ROOM_CLOSED, roomId, "방이 닫혔습니다.");
-            sendMessage(ClientCommand.ROOM_LIST);
+            sendRoomListRequest(-1);
         }
     }
 
     public void sendRoomChatMessage(String roomId, String message) {
-        sendMessage(ClientCommand.CHAT + "|" + roomId + "|" + message);
+        sendMessage(ClientCommand.CHAT + "|" + roomId + "|" + ProtocolText.escape(message));
     }
 
     public void sendGameStartRequest(String roomId) {
@@ -157,7 +257,7 @@ public class GameClient implements AutoCloseable {
     public void sendGameAction(String roomId, String action, String... params) {
         StringBuilder message = new StringBuilder(ClientCommand.GAME_ACTION + "|" + roomId + "|" + action);
         for (String param : params) {
-            message.append("|").append(param);
+            message.append("|").append(ProtocolText.escape(param));
         }
         sendMessage(message.toString());
     }
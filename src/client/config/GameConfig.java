@@ -19,6 +19,9 @@ public class GameConfig {
     public static final Color PRIMARY_COLOR = new Color(71, 185, 251);
     public static final int DEFAULT_PORT = 12345;
 
+    // 로그인 시 서버에 요청할 전송 형식 (TEXT, BINARY)
+    public static final String PROTOCOL = "client.protocol";
+
     static {
         loadProperties();
     }
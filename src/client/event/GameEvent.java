@@ -18,7 +18,9 @@ public class GameEvent {
         // 방 관련 이벤트
         public static final String ROOM_CREATED = "ROOM_CREATED";           // 방 생성됨
         public static final String ROOM_JOINED = "ROOM_JOINED";            // 방 입장함
-        public static final String ROOM_LIST_UPDATED = "ROOM_LIST_UPDATED"; // 방 목록 업데이트됨
+        public static final String ROOM_LIST_UPDATED = "ROOM_LIST_UPDATED"; // 방 목록 업데이트됨 (버전, 방 정보 배열)
+        public static final String ROOM_LIST_DELTA = "ROOM_LIST_DELTA";     // 방 목록 변경분 (종류, 버전, 방 정보 또는 방 ID)
+        public static final String ROOM_LIST_CURRENT = "ROOM_LIST_CURRENT"; // 방 목록이 최신임 (버전)
         public static final String ROOM_CLOSED = "ROOM_CLOSED";            // 방 닫힘
         public static final String HOST_LEFT = "HOST_LEFT";                // 방장이 나감
         public static final String NEW_HOST = "NEW_HOST";                  // 새로운 방장 선정됨
@@ -26,6 +28,7 @@ public class GameEvent {
         // 게임 상태 이벤트
         public static final String GAME_STARTED = "GAME_STARTED";          // 게임 시작됨
         public static final String GAME_OVER = "GAME_OVER";               // 게임 종료됨
+        public static final String GAME_CONFIG = "GAME_CONFIG";           // 게임 설정 (모드, 난이도, 플레이어, 시드 모드 정보)
 
         // 플레이어 관련 이벤트
         public static final String PLAYER_UPDATED = "PLAYER_UPDATED";      // 플레이어 정보 업데이트
@@ -39,6 +42,7 @@ public class GameEvent {
         public static final String WORD_MATCHED = "WORD_MATCHED";         // 단어 매치됨
         public static final String WORD_MISSED = "WORD_MISSED";           // 단어 놓침
         public static final String BLIND_EFFECT = "BLIND_EFFECT";         // 블라인드 효과 발동
+        public static final String EFFECT_ENDED = "EFFECT_ENDED";         // 효과 만료 (서버가 판단)
         public static final String PH_UPDATE = "PH_UPDATE";               // pH 값 업데이트
 
         // 리더보드 이벤트
@@ -74,10 +78,21 @@ public class GameEvent {
         public static final String START_GAME = "START_GAME";           // 게임 시작 요청
         public static final String WORD_INPUT = "WORD_INPUT";           // 단어 입력
         public static final String GAME_ACTION = "GAME_ACTION";         // 게임 액션
+        public static final String WORD_STREAM_FALLBACK = "WORD_STREAM_FALLBACK"; // 시드로 단어를 만들 수 없음 (게임 액션)
 
         // 채팅 관련 커맨드
         public static final String CHAT = "CHAT";                       // 채팅 메시지 전송 ** 서로 다름 **
 
+        // 리더보드 관련 커맨드
+        public static final String LEADERBOARD_ACTION = "LEADERBOARD_ACTION"; // 리더보드 조회 요청
+
+        // 연결 확인
+        public static final String PING = "PING";                       // 연결 확인 요청
+
+        // 브로드캐스트 구독 (주제 이름은 game.protocol.Topic)
+        public static final String SUBSCRIBE = "SUBSCRIBE";             // 주제 구독 요청
+        public static final String UNSUBSCRIBE = "UNSUBSCRIBE";         // 주제 구독 해제 요청
+
         // must be removed ...
         public static final String USERS_REQUEST = "USERS_REQUEST";     // 전체 유저수 요청
     }
@@ -97,19 +112,26 @@ public class GameEvent {
         public static final String ROOM_CLOSED = "ROOM_CLOSED";              // 방 닫힘 알림
         public static final String HOST_LEFT = "HOST_LEFT";                  // 방장 퇴장 알림
         public static final String NEW_HOST = "NEW_HOST";                    // 새 방장 알림
+        public static final String ROOM_SNAPSHOT = "ROOM_SNAPSHOT";          // 버전이 붙은 전체 방 목록
+        public static final String ROOM_ADDED = "ROOM_ADDED";                // 방 목록 변경분: 방 생성
+        public static final String ROOM_UPDATED = "ROOM_UPDATED";            // 방 목록 변경분: 방 정보 변경
+        public static final String ROOM_REMOVED = "ROOM_REMOVED";            // 방 목록 변경분: 방 삭제
+        public static final String ROOM_LIST_CURRENT = "ROOM_LIST_CURRENT";  // 요청한 버전이 최신임 (버전)
 
         // 게임 플레이 메시지
-        public static final String WORD_SPAWNED = "WORD_SPAWNED";           // 단어 생성 알림
+        public static final String WORD_SPAWNED = "WORD_SPAWNED";           // 단어 생성 알림 (시드 모드 전환 시 재전송: 효과 + 생성 후 경과 ms)
         public static final String WORD_MATCHED = "WORD_MATCHED";           // 단어 매치 알림
         public static final String WORD_MISSED = "WORD_MISSED";             // 단어 미스 알림
         public static final String BLIND_EFFECT = "BLIND_EFFECT";           // 블라인드 효과 알림
+        public static final String EFFECT_ENDED = "EFFECT_ENDED";           // 효과 만료 알림
         public static final String GAME_OVER = "GAME_OVER";                 // 게임 종료 알림
         public static final String PH_UPDATE = "PH_UPDATE";                 // pH 업데이트 알림
 
         // 게임 상태 및 설정 메시지
         public static final String PLAYER_UPDATE = "PLAYER_UPDATE";         // 플레이어 정보 업데이트
         public static final String SETTINGS_UPDATE = "SETTINGS_UPDATED";     // 설정 업데이트 알림
-        public static final String GAME_START = "GAME_START";              // 게임 시작 알림
+        public static final String GAME_START = "GAME_START";              // 게임 시작 알림 (시드 모드: 단어 스트림 시작 후 경과 ms)
+        public static final String GAME_CONFIG = "GAME_CONFIG";            // 게임 설정(모드, 난이도, 플레이어) 알림
 
         // 채팅 메시지
         public static final String CHAT = "CHAT";                          // 채팅 메시지 알림 ** 서로 다름 **
@@ -119,6 +141,10 @@ public class GameEvent {
         public static final String LEADERBOARD_UPDATE = "LEADERBOARD_UPDATE"; // 리더보드 업데이트
         public static final String MY_RECORDS_DATA = "MY_RECORDS_DATA";       // 개인 기록 데이터
 
+        // 연결 관련 메시지
+        public static final String PONG = "PONG";                          // 연결 확인 응답
+        public static final String PROTOCOL = "PROTOCOL";                  // 전송 형식 협상 (TEXT, BINARY), 클라이언트도 같은 이름으로 확인 응답
+
         // 에러 메시지
         public static final String ERROR = "ERROR";                        // 에러 알림
     }
@@ -1,16 +1,19 @@
 /*
  * client.network.MessageHandler.java
  * 서버로부터 수신된 메시지를 처리하는 클래스
+ * 텍스트/바이너리 형식과 상관없이 MessageReader 에서 필드를 타입에 맞게 꺼내 씀
  */
 
 package client.network;
 
 import client.app.GameClient;
 import client.event.GameEvent.ClientEvent;
-import client.event.GameEvent.ServerMessage;
 import game.model.Word;
+import game.protocol.MessageReader;
+import game.protocol.Opcode;
+import game.protocol.WireFormat;
 
-import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 public class MessageHandler {
@@ -21,50 +24,62 @@ public class MessageHandler {
         this.gameClient = gameClient;
     }
 
-    public void handleMessage(String message) {
+    public void handleMessage(MessageReader message) {
         try {
             logger.info("수신된 메시지: " + message);
-            String[] parts = message.split("\\|");
-            String messageType = parts[0];
+            Opcode opcode = message.getOpcode();
+            if (opcode == null) {
+                logger.warning("알 수 없는 메시지 타입: " + message.getType());
+                return;
+            }
 
-            switch (messageType) {
+            switch (opcode) {
                 // 유저 관련 메시지
-                case ServerMessage.USERS -> handleUsers(parts);
+                case USERS -> handleUsers(message);
 
                 // 방 관련 메시지
-                case ServerMessage.ROOM_LIST_RESPONSE -> handleRoomList(parts);
-                case ServerMessage.PLAYER_LIST_RESPONSE -> handlePlayerList(parts);
-                case ServerMessage.CREATE_ROOM_RESPONSE -> handleCreateRoom(parts);
-                case ServerMessage.JOIN_ROOM_RESPONSE -> handleJoinRoom(parts);
-                case ServerMessage.ROOM_CLOSED -> handleRoomClosed(parts);
-                case ServerMessage.HOST_LEFT -> handleHostLeft(parts);
-                case ServerMessage.NEW_HOST -> handleNewHost(parts);
+                case ROOM_LIST_RESPONSE -> handleRoomList(message);
+                case ROOM_SNAPSHOT -> handleRoomSnapshot(message);
+                case ROOM_ADDED, ROOM_UPDATED, ROOM_REMOVED -> handleRoomDelta(message);
+                case ROOM_LIST_CURRENT -> handleRoomListCurrent(message);
+                case PLAYER_LIST_RESPONSE -> handlePlayerList(message);
+                case CREATE_ROOM_RESPONSE -> handleCreateRoom(message);
+                case JOIN_ROOM_RESPONSE -> handleJoinRoom(message);
+                case ROOM_CLOSED -> handleRoomClosed(message);
+                case HOST_LEFT -> handleHostLeft(message);
+                case NEW_HOST -> handleNewHost(message);
 
                 // 채팅 메시지
-                case ServerMessage.CHAT -> handleChat(parts);
+                case CHAT -> handleChat(message);
 
                 // 게임 상태 메시지
-                case ServerMessage.PLAYER_UPDATE -> handlePlayerUpdate(parts);
-                case ServerMessage.SETTINGS_UPDATE -> handleSettingsUpdate(parts);
-                case ServerMessage.GAME_START -> handleGameStart();
+                case PLAYER_UPDATE -> handlePlayerUpdate(message);
+                case SETTINGS_UPDATED -> handleSettingsUpdate(message);
+                case GAME_CONFIG -> handleGameConfig(message);
+                case GAME_START -> handleGameStart(message);
 
                 // 게임 플레이 메시지
-                case ServerMessage.WORD_SPAWNED -> handleWordSpawned(parts);
-                case ServerMessage.WORD_MATCHED -> handleWordMatched(parts);
-                case ServerMessage.WORD_MISSED -> handleWordMissed(parts);
-                case ServerMessage.BLIND_EFFECT -> handleBlindEffect(parts);
-                case ServerMessage.GAME_OVER -> handleGameOver(parts);
-                case ServerMessage.PH_UPDATE -> handlePHUpdate(parts);
+                case WORD_SPAWNED -> handleWordSpawned(message);
+                case WORD_MATCHED -> handleWordMatched(message);
+                case WORD_MISSED -> handleWordMissed(message);
+                case BLIND_EFFECT -> handleBlindEffect(message);
+                case EFFECT_ENDED -> handleEffectEnded(message);
+                case GAME_OVER -> handleGameOver(message);
+                case PH_UPDATE -> handlePHUpdate(message);
 
                 // 리더보드 관련 메시지
-                case ServerMessage.LEADERBOARD_DATA -> handleLeaderboardData(parts);
-                case ServerMessage.LEADERBOARD_UPDATE -> handleLeaderboardUpdate(parts);
-                case ServerMessage.MY_RECORDS_DATA -> handleMyRecordsData(parts);
+                case LEADERBOARD_DATA -> handleLeaderboardData(message);
+                case LEADERBOARD_UPDATE -> handleLeaderboardUpdate(message);
+                case MY_RECORDS_DATA -> handleMyRecordsData(message);
 
                 // 에러 메시지
-                case ServerMessage.ERROR -> handleError(parts);
+                case ERROR -> handleError(message);
+
+                // 연결 관련 메시지
+                case PROTOCOL -> handleProtocol(message);
+                case PONG -> { }
 
-                default -> logger.warning("알 수 없는 메시지 타입: " + messageType);
+                default -> logger.warning("알 수 없는 메시지 타입: " + message.getType());
             }
         } catch (Exception e) {
             logger.severe("메시지 처리 중 오류 발생: " + e.getMessage());
@@ -72,46 +87,85 @@ public class MessageHandler {
         }
     }
 
-    private void handleUsers(String[] parts) {
-        if (parts.length >= 2) {
+    private void handleProtocol(MessageReader message) {
+        if (message.hasNext()) {
+            gameClient.switchWireFormat(WireFormat.fromString(message.nextString()));
+        }
+    }
+
+    private void handleUsers(MessageReader message) {
+        if (message.getFieldCount() >= 1) {
             try {
-                int userCount = Integer.parseInt(parts[1]);
+                int userCount = message.nextInt();
                 gameClient.handleEvent(ClientEvent.USERS_UPDATED, userCount);
             } catch (NumberFormatException e) {
-                logger.severe("사용자 수 파싱 오류: " + parts[1]);
+                logger.severe("사용자 수 파싱 오류: " + message);
+            }
+        }
+    }
+
+    // 버전이 없는 기존 형식의 전체 목록
+    private void handleRoomList(MessageReader message) {
+        String[] roomInfos = message.remainingStrings();
+        gameClient.handleEvent(ClientEvent.ROOM_LIST_UPDATED, -1, roomInfos);
+    }
+
+    private void handleRoomSnapshot(MessageReader message) {
+        if (message.getFieldCount() >= 1) {
+            try {
+                int version = message.nextInt();
+                String[] roomInfos = message.remainingStrings();
+                gameClient.handleEvent(ClientEvent.ROOM_LIST_UPDATED, version, roomInfos);
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 방 목록 버전: " + message);
+            }
+        }
+    }
+
+    // ROOM_LIST_CURRENT|버전, 요청한 버전 이후로 바뀐 것이 없음
+    private void handleRoomListCurrent(MessageReader message) {
+        if (message.getFieldCount() >= 1) {
+            try {
+                gameClient.handleEvent(ClientEvent.ROOM_LIST_CURRENT, message.nextInt());
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 방 목록 버전: " + message);
             }
         }
     }
 
-    private void handleRoomList(String[] parts) {
-        if (parts.length > 1) {
-            String[] roomInfos = Arrays.copyOfRange(parts, 1, parts.length);
-            gameClient.handleEvent(ClientEvent.ROOM_LIST_UPDATED, (Object[]) roomInfos);
-        } else {
-            gameClient.handleEvent(ClientEvent.ROOM_LIST_UPDATED, new String[0]);
+    // ROOM_ADDED|버전|방정보, ROOM_UPDATED|버전|방정보, ROOM_REMOVED|버전|방ID
+    private void handleRoomDelta(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            try {
+                int version = message.nextInt();
+                String payload = message.nextString();
+                gameClient.handleEvent(ClientEvent.ROOM_LIST_DELTA, message.getType(), version, payload);
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 방 목록 버전: " + message);
+            }
         }
     }
 
-    private void handlePlayerList(String[] parts) {
-        if (parts.length >= 4) {
-            String roomId = parts[1];
+    private void handlePlayerList(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            String roomId = message.nextString();
             try {
-                int playerCount = Integer.parseInt(parts[2]);
-                String[] players = parts[3].split(";");
+                int playerCount = message.nextInt();
+                String[] players = message.nextString().split(";");
                 gameClient.handleEvent(ClientEvent.PLAYER_UPDATED, roomId, playerCount, players);
             } catch (NumberFormatException e) {
-                logger.severe("플레이어 수 파싱 오류: " + parts[2]);
+                logger.severe("플레이어 수 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleCreateRoom(String[] parts) {
-        if (parts.length >= 3) {
-            boolean success = Boolean.parseBoolean(parts[1]);
-            String msg = parts[2];
-            if (success && parts.length >= 5) {
-                String roomInfoStr = parts[3];
-                String createdRoomId = parts[4];
+    private void handleCreateRoom(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            boolean success = message.nextBoolean();
+            String msg = message.nextString();
+            if (success && message.getFieldCount() >= 4) {
+                String roomInfoStr = message.nextString();
+                String createdRoomId = message.nextString();
                 gameClient.handleEvent(ClientEvent.ROOM_CREATED, success, msg, roomInfoStr, createdRoomId);
                 gameClient.handleEvent(ClientEvent.ROOM_JOINED, true, "방에 입장했습니다.", roomInfoStr, createdRoomId);
             } else {
@@ -120,12 +174,12 @@ public class MessageHandler {
         }
     }
 
-    private void handleJoinRoom(String[] parts) {
-        if (parts.length >= 3) {
-            boolean success = Boolean.parseBoolean(parts[1]);
-            String joinMsg = parts[2];
-            if (success && parts.length >= 4) {
-                String roomInfoStr = parts[3];
+    private void handleJoinRoom(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            boolean success = message.nextBoolean();
+            String joinMsg = message.nextString();
+            if (success && message.hasNext()) {
+                String roomInfoStr = message.nextString();
                 gameClient.handleEvent(ClientEvent.ROOM_JOINED, success, joinMsg, roomInfoStr);
             } else {
                 gameClient.handleEvent(ClientEvent.ROOM_JOINED, success, joinMsg, null);
@@ -133,194 +187,242 @@ public class MessageHandler {
         }
     }
 
-    private void handlePlayerUpdate(String[] parts) {
-        if (parts.length >= 4) {
-            String roomId = parts[1];
+    private void handlePlayerUpdate(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            String roomId = message.nextString();
             try {
-                int playerCount = Integer.parseInt(parts[2]);
-                String[] players = parts[3].split(";");
+                int playerCount = message.nextInt();
+                String[] players = message.nextString().split(";");
                 gameClient.handleEvent(ClientEvent.PLAYER_UPDATED, roomId, playerCount, players);
             } catch (NumberFormatException e) {
-                logger.severe("플레이어 수 파싱 오류: " + parts[2]);
+                logger.severe("플레이어 수 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleSettingsUpdate(String[] parts) {
-        if (parts.length >= 4) {
-            String roomId = parts[1];
-            String mode = parts[2];
-            String diff = parts[3];
+    private void handleSettingsUpdate(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            String roomId = message.nextString();
+            String mode = message.nextString();
+            String diff = message.nextString();
             gameClient.handleEvent(ClientEvent.SETTINGS_UPDATED, roomId, mode, diff);
         }
     }
 
-    private void handleGameStart() {
-        gameClient.handleEvent(ClientEvent.GAME_STARTED);
+    // GAME_CONFIG|모드|난이도|플레이어[|시드|단어목록버전|생성간격]
+    private void handleGameConfig(MessageReader message) {
+        if (message.getFieldCount() < 3) {
+            return;
+        }
+        String mode = message.nextString();
+        String difficulty = message.nextString();
+        String players = message.nextString();
+        if (message.getFieldCount() >= 6) {
+            try {
+                long seed = Long.parseLong(message.nextString());
+                int packVersion = Integer.parseInt(message.nextString());
+                long spawnInterval = Long.parseLong(message.nextString());
+                gameClient.handleEvent(ClientEvent.GAME_CONFIG, mode, difficulty, players, seed, packVersion, spawnInterval);
+                return;
+            } catch (NumberFormatException e) {
+                logger.severe("단어 시드 정보 파싱 오류: " + message);
+            }
+        }
+        gameClient.handleEvent(ClientEvent.GAME_CONFIG, mode, difficulty, players);
     }
 
-    private void handleWordSpawned(String[] parts) {
-        if (parts.length >= 4) {
-            String wordText = parts[2];
+    /*
+     * GAME_START[|경과ms]
+     * 시드 모드의 단어 일정 시작 시각 = 받은 시각 - 서버에서 스트림이 시작된 뒤 지난 시간
+     * 받은 시각은 화면을 만들기 전인 여기서 정함 (GameScreen 과 같은 System.nanoTime 기준)
+     */
+    private void handleGameStart(MessageReader message) {
+        long streamStart = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+        if (message.hasNext()) {
             try {
-                int xPos = Integer.parseInt(parts[3]);
-                if (parts.length >= 5) {
-                    // 특수 효과가 있는 경우
-                    Word.SpecialEffect effect = Word.SpecialEffect.valueOf(parts[4]);
-                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordText, xPos, effect);
+                streamStart -= message.nextInt();
+            } catch (NumberFormatException e) {
+                logger.warning("잘못된 게임 시작 시각: " + message);
+            }
+        }
+        gameClient.handleEvent(ClientEvent.GAME_STARTED, streamStart);
+    }
+
+    private void handleWordSpawned(MessageReader message) {
+        if (message.getFieldCount() >= 4) {
+            message.nextString(); // 방 ID
+            String effectName = null;
+            try {
+                int wordId = message.nextInt();
+                String wordText = message.nextString();
+                int xPos = message.nextInt();
+                if (message.hasNext()) {
+                    // 특수 효과가 있는 경우, 시드 모드에서 전환할 때 다시 보낸 단어는 효과("" 이면 없음)와 생성 후 지난 시간(ms)이 붙음
+                    effectName = message.nextString();
+                    Word.SpecialEffect effect = effectName.isEmpty() ? null : Word.SpecialEffect.valueOf(effectName);
+                    if (message.hasNext()) {
+                        long ageMillis = message.nextInt();
+                        gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordId, wordText, xPos, effect, ageMillis);
+                    } else {
+                        gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordId, wordText, xPos, effect);
+                    }
                 } else {
                     // 일반 단어인 경우
-                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordText, xPos);
+                    gameClient.handleEvent(ClientEvent.WORD_SPAWNED, wordId, wordText, xPos);
                 }
             } catch (NumberFormatException e) {
-                logger.severe("단어 위치 파싱 오류: " + parts[3]);
+                logger.severe("단어 ID/위치 파싱 오류: " + message);
             } catch (IllegalArgumentException e) {
-                logger.severe("특수 효과 파싱 오류: " + parts[4]);
+                logger.severe("특수 효과 파싱 오류: " + effectName);
             }
         }
     }
 
-    private void handlePHUpdate(String[] parts) {
-        if (parts.length >= 4) {
-            String roomId = parts[1];
-            String playerName = parts[2];
+    private void handlePHUpdate(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            String roomId = message.nextString();
+            String playerName = message.nextString();
             try {
-                double newPH = Double.parseDouble(parts[3]);
+                int newPH = message.nextFixed2();  // pH x 100
                 gameClient.handleEvent(ClientEvent.PH_UPDATE, playerName, newPH);
             } catch (NumberFormatException e) {
-                logger.severe("pH 값 파싱 오류: " + parts[3]);
+                logger.severe("pH 값 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleWordMatched(String[] parts) {
-        if (parts.length >= 5) {
-            String wordText = parts[2];
-            String playerName = parts[3];
+    private void handleWordMatched(MessageReader message) {
+        if (message.getFieldCount() >= 4) {
+            message.nextString(); // 방 ID
             try {
-                int newScore = Integer.parseInt(parts[4]);
-                gameClient.handleEvent(ClientEvent.WORD_MATCHED, wordText, playerName, newScore);
+                int wordId = message.nextInt();
+                String playerName = message.nextString();
+                int newScore = message.nextInt();
+                gameClient.handleEvent(ClientEvent.WORD_MATCHED, wordId, playerName, newScore);
             } catch (NumberFormatException e) {
-                logger.severe("점수 파싱 오류: " + parts[4]);
+                logger.severe("단어 ID/점수 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleWordMissed(String[] parts) {
-        if (parts.length >= 5) {
-            String missedWord = parts[2];
-            String playerName = parts[3];
+    private void handleWordMissed(MessageReader message) {
+        if (message.getFieldCount() >= 4) {
+            message.nextString(); // 방 ID
             try {
-                double newPH = Double.parseDouble(parts[4]);
-                gameClient.handleEvent(ClientEvent.WORD_MISSED, missedWord, playerName, newPH);
+                int wordId = message.nextInt();
+                String playerName = message.nextString();
+                int newPH = message.nextFixed2();  // pH x 100
+                gameClient.handleEvent(ClientEvent.WORD_MISSED, wordId, playerName, newPH);
             } catch (NumberFormatException e) {
-                logger.severe("pH 값 파싱 오류: " + parts[4]);
+                logger.severe("단어 ID/pH 값 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleBlindEffect(String[] parts) {
-        if (parts.length >= 4) {
-            String targetPlayer = parts[2];
+    private void handleBlindEffect(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            message.nextString(); // 방 ID
+            String targetPlayer = message.nextString();
             try {
-                int durationMs = Integer.parseInt(parts[3]);
+                int durationMs = message.nextInt();
                 gameClient.handleEvent(ClientEvent.BLIND_EFFECT, targetPlayer, durationMs);
             } catch (NumberFormatException e) {
-                logger.severe("효과 지속시간 파싱 오류: " + parts[3]);
+                logger.severe("효과 지속시간 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleGameOver(String[] parts) {
-        if (parts.length >= 5) {
-            String roomId = parts[1];
-            String winnerName = parts[2];
+    // EFFECT_ENDED|방ID|대상|효과
+    private void handleEffectEnded(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            message.nextString(); // 방 ID
+            String targetPlayer = message.nextString();
+            String effect = message.nextString();
+            gameClient.handleEvent(ClientEvent.EFFECT_ENDED, targetPlayer, effect);
+        }
+    }
+
+    private void handleGameOver(MessageReader message) {
+        if (message.getFieldCount() >= 4) {
+            String roomId = message.nextString();
+            String winnerName = message.nextString();
             try {
-                int myScore = Integer.parseInt(parts[3]);
-                int opponentScore = Integer.parseInt(parts[4]);
-                boolean isForfeit = parts.length >= 6 && "FORFEIT".equals(parts[5]);
+                int myScore = message.nextInt();
+                int opponentScore = message.nextInt();
+                boolean isForfeit = message.hasNext() && "FORFEIT".equals(message.nextString());
 
                 gameClient.handleEvent(ClientEvent.GAME_OVER, winnerName, myScore, opponentScore, isForfeit);
             } catch (NumberFormatException e) {
-                logger.severe("점수 파싱 오류: " + Arrays.toString(parts));
+                logger.severe("점수 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleLeaderboardData(String[] parts) {
-        if (parts.length >= 3) {
-            String type = parts[1];
-            String[] entries = Arrays.copyOfRange(parts, 2, parts.length);
-            switch (type) {
-                case "TOP" -> gameClient.handleEvent(ClientEvent.TOP_SCORES, (Object[]) entries);
-                case "USER" -> gameClient.handleEvent(ClientEvent.USER_RECORDS, (Object[]) entries);
-                default -> logger.warning("알 수 없는 리더보드 타입: " + type);
-            }
-        } else {
-            String type = parts.length >= 2 ? parts[1] : "UNKNOWN";
-            switch (type) {
-                case "TOP" -> gameClient.handleEvent(ClientEvent.TOP_SCORES, new String[0]);
-                case "USER" -> gameClient.handleEvent(ClientEvent.USER_RECORDS, new String[0]);
-                default -> logger.warning("알 수 없는 리더보드 타입: " + type);
-            }
+    private void handleLeaderboardData(MessageReader message) {
+        String type = message.hasNext() ? message.nextString() : "UNKNOWN";
+        String[] entries = message.remainingStrings();
+        switch (type) {
+            case "TOP" -> gameClient.handleEvent(ClientEvent.TOP_SCORES, (Object[]) entries);
+            case "USER" -> gameClient.handleEvent(ClientEvent.USER_RECORDS, (Object[]) entries);
+            default -> logger.warning("알 수 없는 리더보드 타입: " + type);
         }
     }
 
-    private void handleLeaderboardUpdate(String[] parts) {
-        if (parts.length >= 4) {
-            String roomId = parts[1];
-            String playerName = parts[2];
+    private void handleLeaderboardUpdate(MessageReader message) {
+        if (message.getFieldCount() >= 3) {
+            String roomId = message.nextString();
+            String playerName = message.nextString();
             try {
-                int rank = Integer.parseInt(parts[3]);
+                int rank = message.nextInt();
                 gameClient.handleEvent(ClientEvent.LEADERBOARD_UPDATE, roomId, playerName, rank);
             } catch (NumberFormatException e) {
-                logger.severe("리더보드 순위 파싱 오류: " + parts[3]);
+                logger.severe("리더보드 순위 파싱 오류: " + message);
             }
         }
     }
 
-    private void handleMyRecordsData(String[] parts) {
-        if (parts.length >= 2) {
-            String[] records = Arrays.copyOfRange(parts, 1, parts.length);
+    private void handleMyRecordsData(MessageReader message) {
+        if (message.getFieldCount() >= 1) {
+            String[] records = message.remainingStrings();
             gameClient.handleEvent(ClientEvent.USER_RECORDS, (Object) records);
         }
     }
 
-    private void handleChat(String[] parts) {
-        if (parts.length >= 3) {
-            String username = parts[1];
-            String chatMsg = parts[2];
+    private void handleChat(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            String username = message.nextString();
+            String chatMsg = message.nextString();
             gameClient.handleEvent(ClientEvent.CHAT_RECEIVED, username, chatMsg);
         }
     }
 
-    private void handleHostLeft(String[] parts) {
-        if (parts.length >= 3) {
-            String roomId = parts[1];
-            String hostMsg = parts[2];
+    private void handleHostLeft(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            String roomId = message.nextString();
+            String hostMsg = message.nextString();
             gameClient.handleEvent(ClientEvent.HOST_LEFT, roomId, hostMsg);
         }
     }
 
-    private void handleRoomClosed(String[] parts) {
-        if (parts.length >= 3) {
-            String roomId = parts[1];
-            String reason = parts[2];
+    private void handleRoomClosed(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            String roomId = message.nextString();
+            String reason = message.nextString();
             gameClient.handleEvent(ClientEvent.ROOM_CLOSED, roomId, reason);
         }
     }
 
-    private void handleNewHost(String[] parts) {
-        if (parts.length >= 3) {
-            String roomId = parts[1];
-            String newHostName = parts[2];
+    private void handleNewHost(MessageReader message) {
+        if (message.getFieldCount() >= 2) {
+            String roomId = message.nextString();
+            String newHostName = message.nextString();
             gameClient.handleEvent(ClientEvent.NEW_HOST, roomId, newHostName);
         }
     }
 
-    private void handleError(String[] parts) {
-        if (parts.length >= 2) {
-            String errorMessage = parts[1];
+    private void handleError(MessageReader message) {
+        if (message.getFieldCount() >= 1) {
+            String errorMessage = message.nextString();
             gameClient.handleEvent(ClientEvent.ERROR_OCCURRED, errorMessage);
         }
     }
@@ -6,6 +6,8 @@
 
 package client.network;
 
+import game.protocol.TextMessageReader;
+
 import java.io.*;
 import java.net.Socket;
 
@@ -42,7 +44,7 @@ public class NetworkManager {
             try {
                 String message;
                 while (connected && (message = in.readLine()) != null) {
-                    messageHandler.handleMessage(message);
+                    messageHandler.handleMessage(new TextMessageReader(message));
                 }
             } catch (IOException e) {
                 if (connected) {
@@ -16,6 +16,7 @@ import client.ui.dialog.RoomListDialog;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
 import client.ui.theme.StyleManager;
+import game.protocol.Topic;
 
 import javax.swing.*;
 import java.awt.*;
@@ -44,6 +45,8 @@ public class MainMenu extends JPanel implements GameEventListener {
 
     public MainMenu(GameClient client) {
         this.client = client;
+        // 메인 메뉴는 접속자 수만 표시함
+        client.setSubscriptions(Topic.GLOBAL_STATS);
         this.raindrops = new ArrayList<>();
         this.random = new Random();
 
@@ -253,6 +256,7 @@ public class MainMenu extends JPanel implements GameEventListener {
             @Override
             public void windowClosed(WindowEvent e) {
                 client.setEventListener(currentListener);
+                client.setSubscriptions(Topic.GLOBAL_STATS);
             }
         });
 
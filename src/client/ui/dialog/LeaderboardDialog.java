@@ -13,6 +13,7 @@ import client.ui.theme.FontManager;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.LeaderboardEntry;
+import game.protocol.Topic;
 
 import javax.swing.*;
 import javax.swing.table.*;
@@ -195,6 +196,9 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
         GameMode mode = ((GameModeWrapper) modeFilter.getSelectedItem()).getMode();
         DifficultyLevel difficulty = ((DifficultyWrapper) difficultyFilter.getSelectedItem()).getDifficulty();
 
+        // 보고 있는 리더보드의 새 기록만 받음
+        client.setSubscriptions(Topic.leaderboard(mode, difficulty));
+
         // 서버에 데이터 요청
         client.sendMessage("LEADERBOARD_ACTION|GET_TOP|" + mode.name() + "|" + difficulty.name());
         client.sendMessage("LEADERBOARD_ACTION|GET_MY_RECORDS|" + mode.name() + "|" + difficulty.name());
@@ -260,6 +264,8 @@ public class LeaderboardDialog extends BaseDialog implements GameEventListener {
         switch (eventType) {
             case "TOP_SCORES" -> handleTopScores(data);
             case "USER_RECORDS" -> handleUserRecords(data);
+            // 구독 중인 리더보드에 새 기록이 생기면 다시 불러옴
+            case "LEADERBOARD_UPDATE" -> SwingUtilities.invokeLater(this::loadLeaderboard);
         }
     }
 
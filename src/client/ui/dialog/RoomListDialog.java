@@ -15,6 +15,7 @@ import client.ui.game.GameLobby;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
 import game.model.GameRoom;
+import game.protocol.Topic;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
@@ -34,6 +35,11 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
     private Timer refreshTimer;
     private JLabel statusLabel;
     private boolean isClosing = false;
+    // 마지막으로 반영한 방 목록 버전, 버전 없는 목록을 받았거나 아직 못 받았으면 -1
+    private int roomListVersion = -1;
+    // 버전이 건너뛰어 놓친 변경분(또는 전체 목록)을 다시 요청한 상태, 응답이 올 때까지 다시 요청하지 않음
+    // 처음 열 때도 전체 목록을 기다리는 상태로 시작함
+    private boolean resyncing = true;
 
     public RoomListDialog(JFrame mainFrame, GameClient client) {
         super(mainFrame, "게임 방 목록");
@@ -51,7 +57,9 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         setupRefreshTimer();
         setupWindowListener();
 
-        client.sendMessage("ROOM_LIST");
+        // 방 목록 화면에서만 lobby 주제를 받음
+        client.setSubscriptions(Topic.LOBBY);
+        client.sendRoomListRequest(roomListVersion);
     }
 
     private void setupDialog() {
@@ -200,7 +208,7 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
     // 방 목록 새로고침
     public void refreshRoomList() {
         statusLabel.setText("방 목록을 새로고치는 중...");
-        client.sendMessage("ROOM_LIST");
+        client.sendRoomListRequest(roomListVersion);
     }
 
     // 방 만들기 다이얼로그 표시
@@ -330,6 +338,8 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         SwingUtilities.invokeLater(() -> {
             switch (eventType) {
                 case ClientEvent.ROOM_LIST_UPDATED -> handleRoomListUpdate(data);
+                case ClientEvent.ROOM_LIST_DELTA -> handleRoomListDelta(data);
+                case ClientEvent.ROOM_LIST_CURRENT -> handleRoomListCurrent(data);
                 case ClientEvent.ROOM_JOINED -> handleRoomJoined(data);
                 case ClientEvent.ROOM_CREATED -> handleRoomCreated(data);
                 case ClientEvent.ERROR_OCCURRED -> handleError((String) data[0]);
@@ -337,36 +347,103 @@ public class RoomListDialog extends BaseDialog implements GameEventListener {
         });
     }
 
+    // 전체 목록 (버전, 방 정보 배열)
     private void handleRoomListUpdate(Object... data) {
+        if (data.length < 2 || !(data[1] instanceof String[] roomInfos)) {
+            return;
+        }
+
         roomListModel.clear();
         rooms.clear();
-
-        if (data.length > 0) {
-            String[] roomInfos;
-            if (data[0] instanceof String[]) {
-                roomInfos = (String[]) data[0];
-            } else if (data[0] instanceof String) {
-                roomInfos = new String[]{(String) data[0]};
-            } else {
-                return;
+        for (String roomInfo : roomInfos) {
+            GameRoom room = parseRoom(roomInfo);
+            if (room != null) {
+                rooms.add(room);
+                roomListModel.addElement(new RoomListItem(room));
             }
+        }
+        roomListVersion = (int) data[0];
+        resyncing = false;
 
-            for (String roomInfo : roomInfos) {
-                try {
-                    GameRoom room = GameRoom.fromString(roomInfo);
-                    if (room != null) {
+        updateStatusLabel();
+        roomList.revalidate();
+        roomList.repaint();
+    }
+
+    // 알고 있는 버전이 최신이라는 응답 (버전)
+    private void handleRoomListCurrent(Object... data) {
+        if ((int) data[0] == roomListVersion) {
+            resyncing = false;
+            updateStatusLabel();
+        }
+    }
+
+    /*
+     * 변경분 (종류, 버전, 방 정보 또는 방 ID)
+     * 서버는 변경분을 버전 순서대로 보내므로, 버전이 건너뛰는 것은 메시지를 잃어버린 경우뿐임
+     * 바로 다음 버전만 반영하고, 건너뛰면 알고 있는 버전을 보내 놓친 변경분을 다시 받음 (너무 오래됐으면 전체 목록)
+     * 다시 받은 변경분도 같은 경로로 반영함
+     */
+    private void handleRoomListDelta(Object... data) {
+        String type = (String) data[0];
+        int version = (int) data[1];
+        String payload = (String) data[2];
+
+        if (roomListVersion >= 0 && version <= roomListVersion) {
+            return;  // 이미 반영된 변경분
+        }
+        if (roomListVersion < 0 || version != roomListVersion + 1) {
+            if (!resyncing) {
+                resyncing = true;
+                client.sendRoomListRequest(roomListVersion);
+            }
+            return;
+        }
+        resyncing = false;
+
+        switch (type) {
+            case GameEvent.ServerMessage.ROOM_ADDED, GameEvent.ServerMessage.ROOM_UPDATED -> {
+                GameRoom room = parseRoom(payload);
+                if (room != null) {
+                    int index = indexOfRoom(room.getRoomId());
+                    if (index < 0) {
                         rooms.add(room);
                         roomListModel.addElement(new RoomListItem(room));
+                    } else {
+                        rooms.set(index, room);
+                        roomListModel.set(index, new RoomListItem(room));
                     }
-                } catch (Exception e) {
-                    e.printStackTrace();
+                }
+            }
+            case GameEvent.ServerMessage.ROOM_REMOVED -> {
+                int index = indexOfRoom(payload);
+                if (index >= 0) {
+                    rooms.remove(index);
+                    roomListModel.remove(index);
                 }
             }
         }
-
+        roomListVersion = version;
         updateStatusLabel();
-        roomList.revalidate();
-        roomList.repaint();
+    }
+
+    // rooms 와 roomListModel 은 같은 순서로 유지함
+    private int indexOfRoom(String roomId) {
+        for (int i = 0; i < rooms.size(); i++) {
+            if (rooms.get(i).getRoomId().equals(roomId)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private GameRoom parseRoom(String roomInfo) {
+        try {
+            return GameRoom.fromString(roomInfo);
+        } catch (Exception e) {
+            e.printStackTrace();
+            return null;
+        }
     }
 
     private void updateStatusLabel() {
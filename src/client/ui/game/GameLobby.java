@@ -7,6 +7,7 @@ package client.ui.game;
 
 import client.app.GameClient;
 import client.event.GameEvent;
+import client.event.GameEvent.ClientCommand;
 import client.event.GameEvent.ClientEvent;
 import client.event.GameEventListener;
 import client.ui.MainMenu;
@@ -17,11 +18,14 @@ import client.ui.components.RetroButton;
 import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.GameRoom;
+import game.model.WordPack;
+import game.model.WordStream;
 
 import javax.swing.*;
 import javax.swing.plaf.basic.BasicScrollBarUI;
 import java.awt.*;
 import java.awt.event.*;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.Logger;
 
@@ -40,6 +44,9 @@ public class GameLobby extends JFrame implements GameEventListener {
     private RetroButton startButton;
     private JPanel buttonPanel;
     private volatile boolean isClosing = false;
+    // GAME_CONFIG 로 받은 시드 모드 정보, 시드 모드가 아니거나 단어 목록이 다르면 null
+    private WordStream wordStream;
+    private long spawnInterval;
 
     public GameLobby(GameRoom room, GameClient client, JFrame mainFrame) {
         this.room = room;
@@ -60,6 +67,8 @@ public class GameLobby extends JFrame implements GameEventListener {
 
         // 이벤트 리스너 설정
         client.setEventListener(this);
+        // 방 안에서는 방 주제(서버가 관리)만 받음
+        client.setSubscriptions();
 
         // 서버에 플레이어 목록 요청
         SwingUtilities.invokeLater(() -> {
@@ -475,7 +484,33 @@ public class GameLobby extends JFrame implements GameEventListener {
         }
     }
 
-    private void handleGameStart() {
+    /*
+     * 시드 모드이면 같은 단어 목록을 가지고 있는지 버전으로 확인하고 단어 스트림을 준비함
+     * 목록이 없거나 다르면 서버에 알려 WORD_SPAWNED 로 받음
+     */
+    private void handleGameConfig(Object... data) {
+        wordStream = null;
+        if (data.length < 6) {
+            return;
+        }
+        long seed = (long) data[3];
+        int packVersion = (int) data[4];
+        spawnInterval = (long) data[5];
+        try {
+            WordPack pack = WordPack.load(room.getGameMode());
+            if (pack.getVersion() == packVersion) {
+                wordStream = new WordStream(pack, seed);
+                return;
+            }
+            logger.warning("단어 목록 버전이 서버와 다름: " + pack.getVersion() + " != " + packVersion);
+        } catch (IOException e) {
+            logger.warning("단어 목록을 읽을 수 없음: " + e.getMessage());
+        }
+        client.sendGameAction(room.getRoomId(), ClientCommand.WORD_STREAM_FALLBACK);
+    }
+
+    // streamStart: 시드 모드의 단어 일정 시작 시각 (GAME_START 를 받은 시각 - 서버의 경과 시간)
+    private void handleGameStart(long streamStart) {
         setVisible(false);
 
         String myName = client.getUsername();
@@ -490,7 +525,8 @@ public class GameLobby extends JFrame implements GameEventListener {
             }
         }
 
-        GameScreen gameScreen = new GameScreen(client, room.getRoomId(), myName, opponentId);
+        GameScreen gameScreen = new GameScreen(client, room.getRoomId(), myName, opponentId, room.getDifficulty(),
+                wordStream, spawnInterval, streamStart);
         client.setEventListener(gameScreen);
         gameScreen.setVisible(true);
     }
@@ -555,7 +591,8 @@ public class GameLobby extends JFrame implements GameEventListener {
                 case ClientEvent.PLAYER_UPDATED -> handlePlayerUpdate(data);
                 case ClientEvent.CHAT_RECEIVED -> handleChatReceived(data);
                 case ClientEvent.SETTINGS_UPDATED -> handleSettingsUpdate(data);
-                case ClientEvent.GAME_STARTED -> handleGameStart();
+                case ClientEvent.GAME_CONFIG -> handleGameConfig(data);
+                case ClientEvent.GAME_STARTED -> handleGameStart((long) data[0]);
                 case ClientEvent.HOST_LEFT -> handleHostLeft(data);
                 case ClientEvent.NEW_HOST -> handleNewHost(data);
                 case ClientEvent.ROOM_CLOSED -> handleRoomClosed(data);
@@ -12,14 +12,19 @@ import client.ui.MainMenu;
 import client.ui.theme.ColorScheme;
 import client.ui.theme.FontManager;
 import client.ui.components.GameTextField;
+import game.model.DifficultyLevel;
+import game.model.PhLevel;
 import game.model.Word;
+import game.model.WordStream;
+import game.model.WordTrajectory;
 
 import javax.swing.*;
 import javax.swing.border.EmptyBorder;
 import java.awt.*;
 import java.awt.event.*;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 public class GameScreen extends JFrame implements GameEventListener {
@@ -36,24 +41,39 @@ public class GameScreen extends JFrame implements GameEventListener {
     private JLabel opponentScoreLabel;
     private Timer screenRefreshTimer;
 
-    private List<Word> activeWords = new ArrayList<>();
-    private boolean isBlinded = false;
-    private long blindEndTime = 0;
+    // 단어ID -> 화면의 단어 (생성 순서 유지), 같은 텍스트의 단어가 여러 개 있어도 서버가 알려준 단어만 지움
+    private final Map<Integer, Word> activeWords = new LinkedHashMap<>();
+    // 블라인드 효과는 서버가 BLIND_EFFECT 로 걸고 EFFECT_ENDED 로 풂
+    private volatile boolean isBlinded = false;
     private int myScore = 0;
     private int opponentScore = 0;
-    private double myPH = 7.0;
+    // pH x 100 (PhLevel)
+    private int myPH = PhLevel.INITIAL;
     private final String myName;
     private final String opponentName;
+    // 단어 낙하 속도를 정하는 난이도, 위치는 서버와 같은 방식(WordTrajectory)으로 계산함
+    private final DifficultyLevel difficulty;
+    // 시드 모드에서 서버와 같은 단어를 직접 만드는 스트림, 서버가 WORD_SPAWNED 를 보내기 시작하면 null
+    private WordStream wordStream;
+    private final long spawnInterval;
+    private final long streamStart;
+    private int nextWordIndex = 0;
     private volatile boolean isClosing = false;
 
-    public GameScreen(GameClient client, String roomId, String myName, String opponentName) {
+    public GameScreen(GameClient client, String roomId, String myName, String opponentName, DifficultyLevel difficulty,
+                      WordStream wordStream, long spawnInterval, long streamStart) {
         this.client = client;
         this.roomId = roomId;
         this.myName = myName;
         this.opponentName = opponentName;
+        this.difficulty = difficulty;
+        this.wordStream = wordStream;
+        this.spawnInterval = spawnInterval;
+        this.streamStart = streamStart;
         this.mainFrame = (JFrame) SwingUtilities.getWindowAncestor(this);
 
         client.setEventListener(this);
+        client.setSubscriptions();
         initializeFrame();
         setupUI();
         setupInput();
@@ -194,7 +214,7 @@ public class GameScreen extends JFrame implements GameEventListener {
         g2d.setFont(FontManager.getFont(16f));
 
         synchronized(activeWords) {
-            for (Word word : activeWords) {
+            for (Word word : activeWords.values()) {
                 if (word.hasSpecialEffect()) {
                     g2d.setFont(FontManager.getEmojiFont(16f));
                     if (word.getEffect() == Word.SpecialEffect.SCORE_BOOST) {
@@ -213,23 +233,23 @@ public class GameScreen extends JFrame implements GameEventListener {
         }
 
         // 그 위에 블라인드 효과를 그림
-        if (isBlinded && System.currentTimeMillis() < blindEndTime) {
+        if (isBlinded) {
             g2d.setColor(new Color(0, 0, 0, 180));
             g2d.fillRect(0, 0, getWidth(), getHeight());
-        } else if (isBlinded && System.currentTimeMillis() >= blindEndTime) {
-            isBlinded = false;
         }
     }
 
+    /*
+     * 단어 위치는 받은 시각부터 지난 시간으로 계산하므로 프레임 수와 상관없이 같은 속도로 떨어짐
+     * 바닥에 닿은 단어는 서버가 WORD_MISSED 로 알려줄 때 지움
+     */
     private void refreshScreen() {
         if (!isClosing) {
+            long now = currentTimeMillis();
             synchronized(activeWords) {
-                for (Word word : new ArrayList<>(activeWords)) {
-                    word.setY(word.getY() + 2);
-                    if (word.getY() > gamePanel.getHeight()) {
-                        activeWords.remove(word);
-                        client.sendGameAction(roomId, ClientEvent.WORD_MISSED, word.getText());
-                    }
+                spawnStreamWords(now);
+                for (Word word : activeWords.values()) {
+                    word.setY(WordTrajectory.yAt(difficulty, now - word.getSpawnTime()));
                 }
             }
             updateGameInfo();
@@ -237,15 +257,32 @@ public class GameScreen extends JFrame implements GameEventListener {
         }
     }
 
+    // 시드 모드: n 번째 단어는 게임 시작 후 (n+1) 간격에 생김 (서버와 같은 규칙)
+    private void spawnStreamWords(long now) {
+        if (wordStream == null) {
+            return;
+        }
+        while (now - streamStart >= (nextWordIndex + 1L) * spawnInterval) {
+            Word word = wordStream.wordAt(nextWordIndex);
+            word.setSpawnTime(streamStart + (nextWordIndex + 1L) * spawnInterval);
+            activeWords.put(word.getId(), word);
+            nextWordIndex++;
+        }
+    }
+
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
     private void updateGameInfo() {
         scoreLabel.setText(String.format("점수: %d", myScore));
-        phLabel.setText(String.format("pH: %.1f", myPH));
-        int phValue = (int)(myPH * 10);
+        phLabel.setText("pH: " + PhLevel.format1(myPH));
+        int phValue = myPH / 10;
         phMeter.setValue(phValue);
 
-        if (myPH < 5.0) {
+        if (myPH < 500) {
             phMeter.setForeground(Color.RED);
-        } else if (myPH < 6.0) {
+        } else if (myPH < 600) {
             phMeter.setForeground(Color.ORANGE);
         } else {
             phMeter.setForeground(ColorScheme.PRIMARY);
@@ -291,21 +328,28 @@ public class GameScreen extends JFrame implements GameEventListener {
         switch (eventType) {
             case "WORD_SPAWNED" -> {
                 synchronized(activeWords) {
-                    Word word = new Word((String)data[0], (int)data[1], 0);
-                    if (data.length > 2) {
+                    // 서버가 단어를 직접 보내기 시작했으면 시드로 만드는 것을 멈춤
+                    wordStream = null;
+                    Word word = new Word((String)data[1], (int)data[2], 0);
+                    word.setId((int)data[0]);
+                    // 시드 모드에서 전환할 때 다시 보낸 단어는 생성 후 지난 시간만큼 이미 떨어진 상태
+                    long ageMillis = data.length > 4 ? (long) data[4] : 0;
+                    word.setSpawnTime(currentTimeMillis() - ageMillis);
+                    if (data.length > 3 && data[3] != null) {
                         word.setSpecialEffect(true);
-                        word.setEffect((Word.SpecialEffect)data[2]);
+                        word.setEffect((Word.SpecialEffect)data[3]);
                     }
-                    activeWords.add(word);
+                    // 시드로 이미 만든 단어는 같은 일정으로 떨어지고 있으므로 그대로 둠
+                    activeWords.putIfAbsent(word.getId(), word);
                 }
             }
 
             case "WORD_MATCHED" -> {
-                String wordText = (String) data[0];
+                int wordId = (int) data[0];
                 String playerName = (String) data[1];
                 int newScore = (int) data[2];
                 synchronized(activeWords) {
-                    activeWords.removeIf(w -> w.getText().equals(wordText));
+                    activeWords.remove(wordId);
                 }
                 if (playerName.equals(myName)) {
                     myScore = newScore;
@@ -316,20 +360,20 @@ public class GameScreen extends JFrame implements GameEventListener {
             }
 
             case "WORD_MISSED" -> {
-                String missedWord = (String) data[0];
+                int missedWordId = (int) data[0];
                 String playerNameMissed = (String) data[1];
                 synchronized(activeWords) {
-                    activeWords.removeIf(w -> w.getText().equals(missedWord));
+                    activeWords.remove(missedWordId);
                 }
                 if (playerNameMissed.equals(myName)) {
-                    myPH = (double) data[2];
+                    myPH = (int) data[2];
                 }
                 updateGameInfo();
             }
 
             case "PH_UPDATE" -> {
                 String playerName = (String) data[0];
-                double newPH = (double) data[1];
+                int newPH = (int) data[1];
                 if (playerName.equals(myName)) {
                     myPH = newPH;
                 }
@@ -341,11 +385,18 @@ public class GameScreen extends JFrame implements GameEventListener {
                 int durationMs = (int) data[1];
                 if (targetPlayer.equals(myName)) {
                     isBlinded = true;
-                    blindEndTime = System.currentTimeMillis() + durationMs;
                     System.out.println("블라인드 효과 적용됨: " + durationMs + "ms");
                 }
             }
 
+            case "EFFECT_ENDED" -> {
+                String targetPlayer = (String) data[0];
+                String effect = (String) data[1];
+                if (targetPlayer.equals(myName) && Word.SpecialEffect.BLIND_OPPONENT.name().equals(effect)) {
+                    isBlinded = false;
+                }
+            }
+
             case "OPPONENT_LEFT_GAME" -> handleOpponentLeftGame((String)data[0]);
 
             case "GAME_OVER" -> {
@@ -0,0 +1,37 @@
+/*
+ * game.model.PhLevel.java
+ * pH 값을 다루는 고정 소수점 보조 클래스 (서버/클라이언트 공용)
+ * - pH 는 100 을 곱한 정수(hundredths)로 저장하고 전송함 (7.00 -> 700)
+ *   -> ±0.2/0.3 을 수백 번 더해도 오차가 쌓이지 않고, 같은 입력이면 항상 같은 값이 나옴 (리플레이 재현)
+ * - 프로토콜에서는 FIXED2 필드로 보냄 (텍스트 "6.80", 바이너리 zigzag varint 680)
+ */
+
+package game.model;
+
+public final class PhLevel {
+    public static final int SCALE = 100;
+
+    public static final int INITIAL = 700;      // 7.00
+    public static final int MIN = 0;            // 0.00, 이 값이 되면 게임 종료
+    public static final int MATCH_GAIN = 30;    // 단어를 맞춘 플레이어 +0.30
+    public static final int MATCH_PENALTY = 20; // 단어를 맞춘 플레이어의 상대방 -0.20
+    public static final int MISS_PENALTY = 20;  // 단어를 놓치면 모든 플레이어 -0.20
+
+    private PhLevel() {
+    }
+
+    // MIN ~ INITIAL 범위로 자름
+    public static int clamp(int hundredths) {
+        return Math.min(INITIAL, Math.max(MIN, hundredths));
+    }
+
+    public static double toDouble(int hundredths) {
+        return hundredths / (double) SCALE;
+    }
+
+    // 소수 첫째 자리까지의 문자열 (화면 표시용, 둘째 자리에서 반올림)
+    public static String format1(int hundredths) {
+        int tenths = (Math.abs(hundredths) + 5) / 10;
+        return (hundredths < 0 && tenths != 0 ? "-" : "") + tenths / 10 + "." + tenths % 10;
+    }
+}
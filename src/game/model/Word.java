@@ -1,19 +1,21 @@
 /*
  * game.model.Word.java
  * 단어를 나타내기 위한 모델 클래스
+ * - 방 안에서 생성 순서대로 붙는 id 로 구분함 (같은 텍스트의 단어가 동시에 떠 있을 수 있음)
  */
 
 package game.model;
 
-import java.awt.Color;
-
 public class Word {
+    // 방 안에서의 단어 번호, 서버와 클라이언트가 같은 값을 씀 (WORD_SPAWNED/WORD_MATCHED/WORD_MISSED)
+    private int id = -1;
     private final String text;
     private int x;
     private int y;
     private boolean hasSpecialEffect;
     private SpecialEffect effect;
-    private Color color;
+    // 생성 시각 (ms), 위치는 이 시각부터 지난 시간으로 계산함 (WordTrajectory)
+    private long spawnTime;
 
     public enum SpecialEffect {
         SCORE_BOOST,    // 점수 1.5배
@@ -26,10 +28,12 @@ public class Word {
         this.y = y;
         this.hasSpecialEffect = false;
         this.effect = null;
-        this.color = Color.WHITE; // 기본 색상
     }
 
     // Getters & Setters
+    public int getId() { return id; }
+    public void setId(int id) { this.id = id; }
+
     public String getText() { return text; }
 
     public int getX() { return x; }
@@ -38,6 +42,9 @@ public class Word {
     public int getY() { return y; }
     public void setY(int y) { this.y = y; }
 
+    public long getSpawnTime() { return spawnTime; }
+    public void setSpawnTime(long spawnTime) { this.spawnTime = spawnTime; }
+
     public boolean hasSpecialEffect() { return hasSpecialEffect; }
     public void setSpecialEffect(boolean hasSpecialEffect) {
         this.hasSpecialEffect = hasSpecialEffect;
@@ -48,28 +55,24 @@ public class Word {
         this.effect = effect;
     }
 
-    public Color getColor() { return color; }
-    public void setColor(Color color) {
-        this.color = color;
-    }
-
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Word word = (Word) o;
-        return text.equals(word.text);
+        return id == word.id && text.equals(word.text);
     }
 
     @Override
     public int hashCode() {
-        return text.hashCode();
+        return 31 * id + text.hashCode();
     }
 
     @Override
     public String toString() {
         return "Word{" +
-                "text='" + text + '\'' +
+                "id=" + id +
+                ", text='" + text + '\'' +
                 ", x=" + x +
                 ", y=" + y +
                 ", hasSpecialEffect=" + hasSpecialEffect +
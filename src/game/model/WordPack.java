@@ -0,0 +1,346 @@
+/*
+ * game.model.WordPack.java
+ * 게임 모드별 단어 목록 (서버/클라이언트 공용)
+ * - resources/words/words_<모드>.txt 의 줄을 정리(첫 줄 BOM, 앞뒤 공백 제거, NFC 정규화)해서 순서대로 읽음
+ *   빈 줄과 쓸 수 없는 줄(제어 문자, 너무 긴 단어)은 빼고, 같은 단어가 여러 번 나오면 모두 남김 (나온 횟수 = WordSampler 의 가중치)
+ *   WordPackImporter 도 같은 규칙(normalizeLine, rejectReason)을 쓰므로 .txt 와 .pack 의 버전이 같음
+ * - 버전은 단어 목록의 CRC32 값, 시드로 단어를 만드는 경우(WordStream) 양쪽 목록이 같은지 확인하는 데 씀
+ * - 단어는 하나의 char 배열에 이어 붙이고 시작 위치(offset) 표로 나눔 -> 단어마다 String 객체를 두지 않음
+ *   단어는 번호(index)로 가리키고, String 은 처음 필요할 때 한 번만 만들어 모든 방이 같이 씀
+ * - 입력한 문자열로 단어 번호를 찾는 해시 표를 함께 둠 (indexOf, String 을 만들지 않고 비교)
+ * - 큰 단어 목록은 WordPackImporter 로 정리한 바이너리 파일(words_<모드>.pack)로 두면 더 빨리 읽음, 있으면 .txt 보다 우선함
+ *   형식 (big-endian): magic(int) 형식버전(short) 단어수(int) 문자수(int) 본문바이트수(int) CRC32(int) + 본문
+ *   본문은 단어마다 UTF-8 + '\n' 이라 텍스트 목록의 버전 계산과 같은 바이트 -> 헤더의 CRC32 가 곧 버전
+ */
+
+package game.model;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+public final class WordPack {
+    public static final String WORDS_DIRECTORY = "resources/words/";
+    // 바이너리 단어 파일 형식 ("WPAK")
+    public static final int BINARY_MAGIC = 0x5750414B;
+    public static final short BINARY_FORMAT_VERSION = 1;
+    public static final int BINARY_HEADER_SIZE = 22;
+    // 단어 길이 상한 (글자 수), 넘는 줄은 목록에 넣지 않음
+    public static final int MAX_WORD_LENGTH = 32;
+
+    // 모든 단어를 이어 붙인 문자, i 번째 단어는 chars[offsets[i] .. offsets[i + 1])
+    private final char[] chars;
+    private final int[] offsets;
+    // 단어 번호 + 1 을 담는 open addressing 해시 표 (0 은 빈 칸), 같은 단어가 여러 번 있으면 처음 것만 넣음
+    private final int[] table;
+    private final int tableMask;
+    // 같은 단어가 여러 번 있을 때 각 번호의 첫 번호 (중복이 없으면 null)
+    private final int[] canonical;
+    // 만들어 둔 단어 String (처음 get 할 때 채움), 여러 스레드가 같이 채워도 같은 내용이라 문제없음
+    private final String[] texts;
+    private final int version;
+
+    public WordPack(List<String> words) {
+        this(concat(words), offsetsOf(words), checksum(words));
+    }
+
+    // 이미 이어 붙인 단어로 만듦 (바이너리 파일), version 은 호출한 쪽에서 확인한 CRC32
+    private WordPack(char[] chars, int[] offsets, int version) {
+        int count = offsets.length - 1;
+        this.chars = chars;
+        this.offsets = offsets;
+        this.texts = new String[count];
+
+        // 채움 비율이 절반 이하가 되도록 2의 거듭제곱 크기로 만듦
+        int capacity = Integer.highestOneBit(Math.max(2, count * 2) - 1) << 1;
+        this.table = new int[capacity];
+        this.tableMask = capacity - 1;
+        int[] firstIndex = null;
+        for (int i = 0; i < count; i++) {
+            int first = insert(i);
+            if (first != i) {
+                if (firstIndex == null) {
+                    firstIndex = new int[count];
+                    for (int j = 0; j < firstIndex.length; j++) {
+                        firstIndex[j] = j;
+                    }
+                }
+                firstIndex[i] = first;
+            }
+        }
+        this.canonical = firstIndex;
+        this.version = version;
+    }
+
+    public static Path pathFor(GameMode mode) {
+        return Paths.get(WORDS_DIRECTORY + "words_" + mode.name().toLowerCase() + ".txt");
+    }
+
+    public static Path binaryPathFor(GameMode mode) {
+        return Paths.get(WORDS_DIRECTORY + "words_" + mode.name().toLowerCase() + ".pack");
+    }
+
+    // 바이너리 파일이 있으면 그것을, 없으면 텍스트 파일을 읽음
+    public static WordPack load(GameMode mode) throws IOException {
+        Path binaryPath = binaryPathFor(mode);
+        if (Files.exists(binaryPath)) {
+            return readBinary(binaryPath);
+        }
+        List<String> lines = Files.readAllLines(pathFor(mode));
+        List<String> words = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            String word = normalizeLine(lines.get(i), i == 0);
+            if (!word.isEmpty() && rejectReason(word, MAX_WORD_LENGTH) == null) {
+                words.add(word);
+            }
+        }
+        return new WordPack(words);
+    }
+
+    /**
+     * 텍스트 단어 목록의 한 줄을 단어로 정리합니다 (첫 줄의 BOM 과 앞뒤 공백 제거, 유니코드 NFC 정규화).
+     *
+     * @return 정리한 단어, 빈 줄이면 빈 문자열
+     */
+    public static String normalizeLine(CharSequence line, boolean firstLine) {
+        String text = line.toString();
+        if (firstLine && !text.isEmpty() && text.charAt(0) == '\uFEFF') {
+            text = text.substring(1);
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFC).strip();
+    }
+
+    /**
+     * 정리한 단어를 목록에 넣을 수 없는 이유를 돌려줍니다.
+     * 단어 안의 공백이나 '|', ',' 는 전송할 때 이스케이프되므로 그대로 둠 ("typedef struct", "Map<String, Int>")
+     *
+     * @return 넣을 수 없는 이유, 넣을 수 있으면 null
+     */
+    public static String rejectReason(String word, int maxLength) {
+        if (word.length() > maxLength) {
+            return "너무 긴 단어";
+        }
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.isISOControl(word.charAt(i))) {
+                return "제어 문자";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * WordPackImporter 가 만든 바이너리 단어 파일을 읽습니다.
+     * 단어마다 String 을 만들지 않고 본문을 한 번에 디코딩해 바로 char 배열로 씁니다.
+     *
+     * @throws IOException 파일을 읽을 수 없거나 형식/CRC32 가 맞지 않는 경우
+     */
+    public static WordPack readBinary(Path path) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(path));
+        if (buffer.remaining() < BINARY_HEADER_SIZE || buffer.getInt() != BINARY_MAGIC) {
+            throw new IOException("단어 파일 형식이 아님: " + path);
+        }
+        short formatVersion = buffer.getShort();
+        if (formatVersion != BINARY_FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 단어 파일 버전 " + formatVersion + ": " + path);
+        }
+        int wordCount = buffer.getInt();
+        int charCount = buffer.getInt();
+        int payloadLength = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (wordCount < 0 || charCount < 0 || payloadLength != buffer.remaining()) {
+            throw new IOException("단어 파일 헤더가 맞지 않음: " + path);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IOException("단어 파일 CRC32 가 맞지 않음: " + path);
+        }
+
+        // 단어 + '\n' 을 그대로 디코딩한 뒤, 같은 배열 안에서 '\n' 을 빼고 앞으로 당기면서 시작 위치를 기록함
+        char[] decoded = new char[charCount + wordCount];
+        CharBuffer out = CharBuffer.wrap(decoded);
+        CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        if (decoder.decode(buffer, out, true).isError() || decoder.flush(out).isError()
+                || buffer.hasRemaining() || out.hasRemaining()) {
+            throw new IOException("단어 파일 본문이 UTF-8 이 아니거나 헤더와 맞지 않음: " + path);
+        }
+
+        int[] offsets = new int[wordCount + 1];
+        int word = 0;
+        int length = 0;
+        for (char c : decoded) {
+            if (c == '\n') {
+                if (word == wordCount) {
+                    break;
+                }
+                offsets[++word] = length;
+            } else {
+                decoded[length++] = c;
+            }
+        }
+        if (word != wordCount || length != charCount) {
+            throw new IOException("단어 파일 본문이 헤더와 맞지 않음: " + path);
+        }
+        return new WordPack(Arrays.copyOf(decoded, charCount), offsets, checksum);
+    }
+
+    public int size() {
+        return texts.length;
+    }
+
+    // index 번째 단어, 같은 단어에 대해서는 항상 같은 String 을 반환함
+    public String get(int index) {
+        int first = canonicalIndex(index);
+        String text = texts[first];
+        if (text == null) {
+            text = new String(chars, offsets[first], offsets[first + 1] - offsets[first]);
+            texts[first] = text;
+        }
+        return text;
+    }
+
+    public int length(int index) {
+        return offsets[index + 1] - offsets[index];
+    }
+
+    // 같은 단어 중 첫 번호, indexOf 와 같은 번호가 나오므로 단어를 번호로 비교할 때 씀
+    public int canonicalIndex(int index) {
+        return canonical != null ? canonical[index] : index;
+    }
+
+    /**
+     * 문자열과 같은 단어의 번호를 찾습니다.
+     *
+     * @return 단어 번호, 목록에 없으면 -1 (같은 단어가 여러 번 있으면 가장 앞의 번호)
+     */
+    public int indexOf(CharSequence text) {
+        for (int slot = hash(text) & tableMask; ; slot = (slot + 1) & tableMask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                return -1;
+            }
+            if (matches(entry - 1, text)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    public List<String> getWords() {
+        List<String> words = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            words.add(get(i));
+        }
+        return words;
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    // 해시 표에 넣고, 같은 단어가 이미 있으면 그 번호를 반환함
+    private int insert(int index) {
+        int start = offsets[index];
+        int end = offsets[index + 1];
+        int h = 0;
+        for (int i = start; i < end; i++) {
+            h = 31 * h + chars[i];
+        }
+        for (int slot = spread(h) & tableMask; ; slot = (slot + 1) & tableMask) {
+            int entry = table[slot];
+            if (entry == 0) {
+                table[slot] = index + 1;
+                return index;
+            }
+            if (sameWord(entry - 1, index)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    // String.hashCode 와 같은 계산 (CharSequence 라서 직접 함)
+    private static int hash(CharSequence text) {
+        int h = 0;
+        for (int i = 0; i < text.length(); i++) {
+            h = 31 * h + text.charAt(i);
+        }
+        return spread(h);
+    }
+
+    // 비슷한 단어의 hashCode 는 값이 몰려 있어 선형 탐사가 길게 이어지므로 곱셈으로 한 번 섞음
+    private static int spread(int h) {
+        int x = h * 0x9E3779B9;
+        return x ^ (x >>> 16);
+    }
+
+    private boolean matches(int index, CharSequence text) {
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        if (length != text.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[start + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean sameWord(int a, int b) {
+        int length = length(a);
+        if (length != length(b)) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chars[offsets[a] + i] != chars[offsets[b] + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static char[] concat(List<String> words) {
+        int totalLength = 0;
+        for (String word : words) {
+            totalLength += word.length();
+        }
+        char[] chars = new char[totalLength];
+        int position = 0;
+        for (String word : words) {
+            word.getChars(0, word.length(), chars, position);
+            position += word.length();
+        }
+        return chars;
+    }
+
+    private static int[] offsetsOf(List<String> words) {
+        int[] offsets = new int[words.size() + 1];
+        for (int i = 0; i < words.size(); i++) {
+            offsets[i + 1] = offsets[i] + words.get(i).length();
+        }
+        return offsets;
+    }
+
+    private static int checksum(List<String> words) {
+        CRC32 crc = new CRC32();
+        for (String word : words) {
+            crc.update(word.getBytes(StandardCharsets.UTF_8));
+            crc.update('\n');
+        }
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * game.model.WordStream.java
+ * 시드로 정해지는 단어 순서 (서버/클라이언트 공용)
+ * - 같은 시드와 같은 단어 목록(WordPack)이면 어느 쪽에서 만들어도 n 번째 단어(텍스트, x, 특수 효과)가 같음
+ * - n 번째 단어는 시드와 n 만으로 계산하므로(SplitMix64) 앞의 단어를 만들지 않고도 바로 구할 수 있음
+ * - java.util.Random 대신 직접 정의한 PRNG 를 써서 JDK 구현과 상관없이 결과가 같음
+ * 게임을 시작할 때 서버가 GAME_CONFIG 로 시드, 단어 목록 버전, 생성 간격을 한 번만 보내고
+ * 이후 WORD_SPAWNED 없이 양쪽이 같은 단어를 같은 시각에 만듦
+ */
+
+package game.model;
+
+public final class WordStream {
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+    // 단어가 나타나는 x 범위 (100~699)
+    private static final int MIN_X = 100;
+    private static final int X_RANGE = 600;
+    // 특수 효과가 붙을 확률 (%)
+    private static final int EFFECT_PERCENT = 20;
+
+    private final WordPack pack;
+    private final long seed;
+
+    public WordStream(WordPack pack, long seed) {
+        this.pack = pack;
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public WordPack getPack() {
+        return pack;
+    }
+
+    // index 번째 단어를 만듦 (id 는 index), 생성 시각(spawnTime)은 호출한 쪽에서 정함
+    public Word wordAt(int index) {
+        int packIndex = packIndexAt(index);
+        String text = packIndex >= 0 ? pack.get(packIndex) : "default";
+        Word word = new Word(text, xAt(index), 0);
+        word.setId(index);
+
+        Word.SpecialEffect effect = effectAt(index);
+        if (effect != null) {
+            word.setSpecialEffect(true);
+            word.setEffect(effect);
+        }
+        return word;
+    }
+
+    /*
+     * 단어를 이루는 값을 따로 구하는 메서드 (서버는 Word 를 만들지 않고 단어 번호로 다룸)
+     */
+
+    // index 번째 단어의 WordPack 안 번호, 단어 목록이 비어 있으면 -1
+    public int packIndexAt(int index) {
+        return pack.size() > 0 ? bounded(mix(stateAt(index)), pack.size()) : -1;
+    }
+
+    public int xAt(int index) {
+        return MIN_X + bounded(mix(stateAt(index) + 2 * GOLDEN_GAMMA), X_RANGE);
+    }
+
+    // index 번째 단어의 특수 효과, 없으면 null
+    public Word.SpecialEffect effectAt(int index) {
+        int roll = bounded(mix(stateAt(index) + GOLDEN_GAMMA), 100);
+        if (roll >= EFFECT_PERCENT) {
+            return null;
+        }
+        // 반반으로 점수 부스트 또는 상대방 블라인드
+        return roll < EFFECT_PERCENT / 2 ? Word.SpecialEffect.SCORE_BOOST : Word.SpecialEffect.BLIND_OPPONENT;
+    }
+
+    private long stateAt(int index) {
+        return seed + (index + 1L) * GOLDEN_GAMMA;
+    }
+
+    // SplitMix64 출력 함수
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static int bounded(long random, int bound) {
+        return (int) Long.remainderUnsigned(random, bound);
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * game.model.WordTrajectory.java
+ * 떨어지는 단어의 위치를 생성 후 지난 시간으로 계산하는 클래스 (서버/클라이언트 공용)
+ * - 단어는 난이도별 속도로 위에서 아래로 일정하게 떨어짐
+ * - 서버는 이 계산으로 단어를 놓쳤는지 판단하고, 클라이언트는 같은 계산으로 화면에 그림
+ *   -> 프레임 수와 상관없이 두 클라이언트가 같은 위치를 보게 됨
+ */
+
+package game.model;
+
+public final class WordTrajectory {
+    // 단어가 떨어지는 영역의 높이 (px), 이 아래로 내려가면 놓친 단어
+    public static final int FIELD_HEIGHT = 560;
+
+    private WordTrajectory() {
+    }
+
+    // 난이도별 낙하 속도 (px/s)
+    public static int fallSpeed(DifficultyLevel difficulty) {
+        return switch (difficulty) {
+            case EASY -> 100;
+            case MEDIUM -> 120;
+            case HARD -> 150;
+        };
+    }
+
+    // 생성 후 elapsedMillis 가 지났을 때의 y 좌표
+    public static int yAt(DifficultyLevel difficulty, long elapsedMillis) {
+        return (int) (Math.max(0, elapsedMillis) * fallSpeed(difficulty) / 1000);
+    }
+
+    // 생성부터 바닥에 닿을 때까지 걸리는 시간 (ms)
+    public static long fallDurationMillis(DifficultyLevel difficulty) {
+        return FIELD_HEIGHT * 1000L / fallSpeed(difficulty);
+    }
+
+    public static boolean hasFallen(DifficultyLevel difficulty, long elapsedMillis) {
+        return elapsedMillis >= fallDurationMillis(difficulty);
+    }
+}
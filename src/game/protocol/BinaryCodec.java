@@ -0,0 +1,140 @@
+/*
+ * game.protocol.BinaryCodec.java
+ * 바이너리 프레임 인코딩/디코딩
+ * 프레임 = varint(본문 길이) + 본문, 본문 = opcode(1바이트) + 필드들
+ * - 필드 인코딩은 Opcode 의 스키마(FieldType)를 따름
+ * - 스키마에 맞지 않는 메시지(알 수 없는 타입, 숫자가 아닌 INT 필드 등)는 RAW 로 텍스트 줄을 그대로 감쌈
+ *   -> 어떤 텍스트 메시지든 손실 없이 바이너리로 보낼 수 있음
+ */
+
+package game.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class BinaryCodec {
+    public static final int MAX_FRAME_LENGTH = 64 * 1024;
+
+    private BinaryCodec() {
+    }
+
+    /**
+     * 텍스트 프로토콜 한 줄을 바이너리 프레임(길이 포함)으로 변환합니다.
+     *
+     * @param line 줄바꿈이 없는 텍스트 메시지
+     * @return 길이가 앞에 붙은 바이너리 프레임
+     */
+    public static byte[] encode(String line) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(line.length() + 8);
+        encode(line, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * 텍스트 프로토콜 한 줄을 바이너리 프레임(길이 포함)으로 변환해 out 뒤에 붙입니다.
+     */
+    public static void encode(String line, ByteArrayOutputStream out) {
+        ByteArrayOutputStream body = new ByteArrayOutputStream(line.length() + 4);
+        if (!encodeTyped(line, body)) {
+            body.reset();
+            body.write(Opcode.RAW.getCode());
+            writeString(body, line);
+        }
+        writeVarint(out, body.size());
+        out.writeBytes(body.toByteArray());
+    }
+
+    // 스키마대로 인코딩, 스키마에 맞지 않으면 false
+    // 필드 분리와 이스케이프 해제는 수신 측과 같은 TextMessageReader 로 함
+    private static boolean encodeTyped(String line, ByteArrayOutputStream body) {
+        TextMessageReader fields = new TextMessageReader(line);
+        Opcode opcode = fields.getOpcode();
+        if (opcode == null || opcode == Opcode.RAW) {
+            return false;
+        }
+
+        body.write(opcode.getCode());
+        for (int index = 0; fields.hasNext(); index++) {
+            if (!writeField(body, opcode.fieldType(index), fields)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean writeField(ByteArrayOutputStream out, FieldType type, TextMessageReader fields) {
+        try {
+            switch (type) {
+                case STRING -> writeString(out, fields.nextString());
+                case INT -> writeVarint(out, zigzag(fields.nextInt()));
+                case FIXED2 -> writeVarint(out, zigzag(fields.nextFixed2()));
+                case BOOL -> {
+                    String field = fields.nextString();
+                    if ("true".equals(field)) {
+                        out.write(1);
+                    } else if ("false".equals(field)) {
+                        out.write(0);
+                    } else {
+                        return false;
+                    }
+                }
+            }
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 바이너리 프레임 본문(길이 제외)을 읽는 리더를 만듭니다. RAW 프레임은 텍스트 리더로 풀어서 반환합니다.
+     * 반환된 리더는 buffer 를 복사하지 않으므로, buffer 를 재사용하기 전까지만 사용해야 합니다.
+     */
+    public static MessageReader reader(byte[] buffer, int offset, int length) {
+        BinaryMessageReader reader = new BinaryMessageReader(buffer, offset, length);
+        if (reader.getOpcode() == Opcode.RAW) {
+            return new TextMessageReader(reader.nextString());
+        }
+        return reader;
+    }
+
+    /*
+     * varint / zigzag / 고정 소수점 보조 메서드
+     */
+
+    static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    static void writeString(ByteArrayOutputStream out, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarint(out, bytes.length);
+        out.writeBytes(bytes);
+    }
+
+    static int zigzag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    static int unzigzag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // 100 을 곱한 정수를 "%.2f" 와 같은 모양의 문자열로 씀
+    static void appendFixed2(StringBuilder sb, int hundredths) {
+        long value = hundredths;
+        if (value < 0) {
+            sb.append('-');
+            value = -value;
+        }
+        sb.append(value / 100).append('.');
+        long fraction = value % 100;
+        if (fraction < 10) {
+            sb.append('0');
+        }
+        sb.append(fraction);
+    }
+}
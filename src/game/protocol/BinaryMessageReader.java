@@ -0,0 +1,193 @@
+/*
+ * game.protocol.BinaryMessageReader.java
+ * 바이너리 프레임 본문을 읽는 리더
+ * 필드는 Opcode 스키마의 타입으로 디코딩하고, 요청한 타입과 다르면 변환해서 돌려줌
+ * (예: STRING 필드를 nextInt 로 읽으면 파싱, INT 필드를 nextString 으로 읽으면 문자열로 변환)
+ */
+
+package game.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+public class BinaryMessageReader implements MessageReader {
+    private final byte[] buffer;
+    private final int offset;
+    private final int end;
+    private final Opcode opcode;
+    private final int fieldCount;
+    private int position;
+    private int fieldIndex = 0;
+
+    public BinaryMessageReader(byte[] buffer, int offset, int length) {
+        if (length < 1) {
+            throw new IllegalArgumentException("빈 프레임입니다.");
+        }
+        this.buffer = buffer;
+        this.offset = offset;
+        this.end = offset + length;
+        this.opcode = Opcode.fromCode(buffer[offset] & 0xFF);
+        if (opcode == null) {
+            throw new IllegalArgumentException("알 수 없는 opcode: " + (buffer[offset] & 0xFF));
+        }
+        this.position = offset + 1;
+        this.fieldCount = countFields();
+    }
+
+    private int countFields() {
+        int count = 0;
+        while (position < end) {
+            skip(opcode.fieldType(count++));
+        }
+        position = offset + 1;
+        return count;
+    }
+
+    @Override
+    public Opcode getOpcode() {
+        return opcode;
+    }
+
+    @Override
+    public String getType() {
+        return opcode.getText();
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position < end;
+    }
+
+    @Override
+    public String nextString() {
+        FieldType type = nextType();
+        return switch (type) {
+            case STRING -> readString();
+            case INT -> Integer.toString(BinaryCodec.unzigzag(readVarint()));
+            case FIXED2 -> {
+                StringBuilder sb = new StringBuilder(8);
+                BinaryCodec.appendFixed2(sb, BinaryCodec.unzigzag(readVarint()));
+                yield sb.toString();
+            }
+            case BOOL -> Boolean.toString(buffer[position++] != 0);
+        };
+    }
+
+    @Override
+    public int nextInt() {
+        FieldType type = nextType();
+        return switch (type) {
+            case INT -> BinaryCodec.unzigzag(readVarint());
+            case FIXED2 -> BinaryCodec.unzigzag(readVarint()) / 100;
+            case STRING -> Integer.parseInt(readString());
+            case BOOL -> throw new NumberFormatException("BOOL 필드는 정수로 읽을 수 없습니다.");
+        };
+    }
+
+    @Override
+    public double nextDouble() {
+        FieldType type = nextType();
+        return switch (type) {
+            case FIXED2 -> BinaryCodec.unzigzag(readVarint()) / 100.0;
+            case INT -> BinaryCodec.unzigzag(readVarint());
+            case STRING -> Double.parseDouble(readString());
+            case BOOL -> throw new NumberFormatException("BOOL 필드는 실수로 읽을 수 없습니다.");
+        };
+    }
+
+    @Override
+    public int nextFixed2() {
+        FieldType type = nextType();
+        return switch (type) {
+            case FIXED2 -> BinaryCodec.unzigzag(readVarint());
+            case INT -> Math.multiplyExact(BinaryCodec.unzigzag(readVarint()), 100);
+            case STRING -> TextMessageReader.parseFixed2(readString());
+            case BOOL -> throw new NumberFormatException("BOOL 필드는 실수로 읽을 수 없습니다.");
+        };
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        FieldType type = nextType();
+        return switch (type) {
+            case BOOL -> buffer[position++] != 0;
+            case STRING -> Boolean.parseBoolean(readString());
+            default -> {
+                skip(type);
+                yield false;
+            }
+        };
+    }
+
+    @Override
+    public String[] remainingStrings() {
+        String[] remaining = new String[fieldCount - fieldIndex];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = nextString();
+        }
+        return remaining;
+    }
+
+    private FieldType nextType() {
+        if (position >= end) {
+            throw new NoSuchElementException("필드가 부족합니다: " + opcode);
+        }
+        return opcode.fieldType(fieldIndex++);
+    }
+
+    private void skip(FieldType type) {
+        switch (type) {
+            case STRING -> {
+                int length = readVarint();
+                position += length;
+            }
+            case INT, FIXED2 -> readVarint();
+            case BOOL -> position++;
+        }
+        if (position > end) {
+            throw new IllegalArgumentException("잘못된 프레임입니다: " + opcode);
+        }
+    }
+
+    private int readVarint() {
+        int result = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            if (position >= end) {
+                throw new IllegalArgumentException("잘못된 varint 입니다: " + opcode);
+            }
+            byte b = buffer[position++];
+            result |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("잘못된 varint 입니다: " + opcode);
+    }
+
+    private String readString() {
+        int length = readVarint();
+        if (length < 0 || position + length > end) {
+            throw new IllegalArgumentException("잘못된 문자열 길이입니다: " + opcode);
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    // 로그용, 텍스트 프로토콜과 같은 모양으로 변환
+    @Override
+    public String toString() {
+        BinaryMessageReader copy = new BinaryMessageReader(buffer, offset, end - offset);
+        StringBuilder sb = new StringBuilder(copy.getType() != null ? copy.getType() : "RAW");
+        while (copy.hasNext()) {
+            sb.append('|');
+            ProtocolText.appendEscaped(sb, copy.nextString());
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,13 @@
+/*
+ * game.protocol.FieldType.java
+ * 바이너리 프레임에서 필드를 인코딩하는 방식
+ */
+
+package game.protocol;
+
+public enum FieldType {
+    STRING,  // varint 길이 + UTF-8 바이트
+    INT,     // zigzag varint
+    FIXED2,  // 소수점 둘째 자리까지의 값 (pH 등), 100 을 곱한 정수를 zigzag varint 로
+    BOOL     // 1바이트 (0 또는 1)
+}
@@ -0,0 +1,148 @@
+/*
+ * game.protocol.MessageBuilder.java
+ * 텍스트 프로토콜 메시지를 만드는 빌더 (String.format / 문자열 연결 대체)
+ * - 스레드마다 StringBuilder 하나를 재사용하므로, 메시지 하나를 만들 때 할당은 결과 String 하나뿐임
+ * - add(String) 은 사용자 입력이 들어갈 수 있는 필드이므로 항상 이스케이프함
+ * - fixed2 는 String.format("%.2f") 와 같은 문자열을 씀 (HALF_UP, 음수 0 은 "-0.00")
+ *   이미 100 을 곱한 정수(pH 등)는 fixed2(int) 로 실수를 거치지 않고 씀
+ * 사용 예) MessageBuilder.start(ServerMessage.PH_UPDATE).add(roomId).add(username).addFixed2(phHundredths).build()
+ * 빌더는 스레드마다 하나이므로 build 전에 같은 스레드에서 다른 메시지를 시작하면 안 됨
+ */
+
+package game.protocol;
+
+import java.util.Locale;
+
+public final class MessageBuilder {
+    private static final ThreadLocal<MessageBuilder> LOCAL = ThreadLocal.withInitial(MessageBuilder::new);
+    // 이보다 작은 값은 100 을 곱해도 소수 부분의 오차가 1e-6 보다 훨씬 작음
+    private static final double FIXED2_FAST_LIMIT = 1e7;
+    private static final double HALF_TOLERANCE = 1e-6;
+
+    private final StringBuilder sb = new StringBuilder(128);
+
+    private MessageBuilder() {
+    }
+
+    /**
+     * 현재 스레드의 빌더를 비우고 메시지 타입부터 씁니다.
+     *
+     * @param type 메시지 타입 (ServerMessage / ClientCommand 상수)
+     * @return 현재 스레드의 빌더
+     */
+    public static MessageBuilder start(String type) {
+        MessageBuilder builder = LOCAL.get();
+        builder.sb.setLength(0);
+        builder.sb.append(type);
+        return builder;
+    }
+
+    // 새 필드를 시작함, 이어서 text/number/append 로 필드 내용을 씀
+    public MessageBuilder field() {
+        sb.append('|');
+        return this;
+    }
+
+    // 문자열 필드 (이스케이프함)
+    public MessageBuilder add(String value) {
+        return field().text(value);
+    }
+
+    public MessageBuilder add(int value) {
+        sb.append('|').append(value);
+        return this;
+    }
+
+    public MessageBuilder add(long value) {
+        sb.append('|').append(value);
+        return this;
+    }
+
+    public MessageBuilder add(boolean value) {
+        sb.append('|').append(value);
+        return this;
+    }
+
+    // 소수 둘째 자리까지의 실수 필드
+    public MessageBuilder addFixed2(double value) {
+        return field().fixed2(value);
+    }
+
+    // 100 을 곱한 정수로 저장된 값의 필드 (680 -> "6.80")
+    public MessageBuilder addFixed2(int hundredths) {
+        return field().fixed2(hundredths);
+    }
+
+    // values 를 separator 로 이어서 필드 하나로 씀 (플레이어 목록 등)
+    public MessageBuilder addJoined(char separator, String[] values) {
+        field();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(separator);
+            }
+            text(values[i]);
+        }
+        return this;
+    }
+
+    /*
+     * 필드 안쪽을 쓰는 메서드 (방 정보처럼 ',' 로 묶인 필드용)
+     */
+
+    public MessageBuilder text(String value) {
+        ProtocolText.appendEscaped(sb, value);
+        return this;
+    }
+
+    public MessageBuilder number(int value) {
+        sb.append(value);
+        return this;
+    }
+
+    // 구분 문자 등 이스케이프가 필요 없는 문자
+    public MessageBuilder append(char c) {
+        sb.append(c);
+        return this;
+    }
+
+    public MessageBuilder fixed2(double value) {
+        double abs = Math.abs(value);
+        double scaled = abs * 100;
+        double fraction = scaled - Math.floor(scaled);
+        // NaN, 무한대, 큰 값, 그리고 반올림 경계(x.xx5)에 걸친 값은 Formatter 에 맡김
+        // (Formatter 는 최단 10진 표현을 기준으로 반올림하므로 경계에서는 결과가 다를 수 있음)
+        if (!(abs < FIXED2_FAST_LIMIT) || Math.abs(fraction - 0.5) < HALF_TOLERANCE) {
+            sb.append(String.format(Locale.ROOT, "%.2f", value));
+            return this;
+        }
+
+        long hundredths = (long) (scaled + 0.5);
+        if (Double.doubleToRawLongBits(value) < 0) {
+            sb.append('-');
+        }
+        sb.append(hundredths / 100).append('.');
+        long cents = hundredths % 100;
+        if (cents < 10) {
+            sb.append('0');
+        }
+        sb.append(cents);
+        return this;
+    }
+
+    public MessageBuilder fixed2(int hundredths) {
+        BinaryCodec.appendFixed2(sb, hundredths);
+        return this;
+    }
+
+    // 완성된 메시지를 반환하고 빌더를 비움
+    public String build() {
+        String message = sb.toString();
+        sb.setLength(0);
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return sb.toString();
+    }
+}
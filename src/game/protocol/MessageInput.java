@@ -0,0 +1,112 @@
+/*
+ * game.protocol.MessageInput.java
+ * 블로킹 InputStream 에서 메시지를 하나씩 읽는 클래스 (클라이언트 수신 스레드용)
+ * BufferedReader 는 다음 줄까지 미리 읽어 버려서 중간에 바이너리로 바꿀 수 없으므로,
+ * 바이트 단위로 줄/프레임을 직접 잘라냄. 전송 형식은 읽는 도중에 바꿀 수 있음
+ */
+
+package game.protocol;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+
+public class MessageInput implements Closeable {
+    private final InputStream in;
+    private volatile WireFormat format = WireFormat.TEXT;
+    private byte[] frame = new byte[256];
+    private final TextMessageReader textReader = new TextMessageReader();
+
+    public MessageInput(InputStream in) {
+        this.in = new BufferedInputStream(in);
+    }
+
+    public void setFormat(WireFormat format) {
+        this.format = format;
+    }
+
+    public WireFormat getFormat() {
+        return format;
+    }
+
+    /**
+     * 다음 메시지를 읽습니다. 반환된 리더는 다음 read 호출 전까지만 유효합니다.
+     *
+     * @return 메시지 리더, 연결이 끝났으면 null
+     * @throws IOException 읽기 실패 또는 잘못된 프레임
+     */
+    public MessageReader read() throws IOException {
+        return format == WireFormat.BINARY ? readFrame() : readLine();
+    }
+
+    private MessageReader readLine() throws IOException {
+        int length = 0;
+        int b;
+        while ((b = in.read()) != '\n') {
+            if (b < 0) {
+                return null;
+            }
+            ensureCapacity(length + 1);
+            frame[length++] = (byte) b;
+        }
+        if (length > 0 && frame[length - 1] == '\r') {
+            length--;
+        }
+        return textReader.reset(frame, 0, length);
+    }
+
+    private MessageReader readFrame() throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                if (shift == 0) {
+                    return null;
+                }
+                throw new EOFException("프레임 길이를 읽는 중 연결이 끊어졌습니다.");
+            }
+            if (shift > 28) {
+                throw new IOException("잘못된 프레임 길이입니다.");
+            }
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+        if (length <= 0 || length > BinaryCodec.MAX_FRAME_LENGTH) {
+            throw new IOException("잘못된 프레임 길이: " + length);
+        }
+
+        ensureCapacity(length);
+        int read = 0;
+        while (read < length) {
+            int n = in.read(frame, read, length - read);
+            if (n < 0) {
+                throw new EOFException("프레임을 읽는 중 연결이 끊어졌습니다.");
+            }
+            read += n;
+        }
+        try {
+            return BinaryCodec.reader(frame, 0, length);
+        } catch (IllegalArgumentException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    private void ensureCapacity(int capacity) throws IOException {
+        if (capacity > BinaryCodec.MAX_FRAME_LENGTH) {
+            throw new IOException("프레임 길이 초과: " + BinaryCodec.MAX_FRAME_LENGTH + " bytes");
+        }
+        if (capacity > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(capacity, Math.min(frame.length * 2, BinaryCodec.MAX_FRAME_LENGTH)));
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * game.protocol.MessageReader.java
+ * 수신한 메시지 하나를 앞에서부터 필드 단위로 읽는 인터페이스
+ * 텍스트/바이너리 형식과 상관없이 핸들러는 타입이 정해진 값으로 필드를 꺼내 씀
+ * 리더는 메시지를 처리하는 동안에만 유효함 (디코더가 내부 버퍼를 재사용할 수 있음)
+ */
+
+package game.protocol;
+
+public interface MessageReader {
+    /**
+     * @return 메시지의 opcode, 알 수 없는 메시지 타입이면 null
+     */
+    Opcode getOpcode();
+
+    // 텍스트 프로토콜 기준의 메시지 타입 이름
+    String getType();
+
+    // 메시지 타입을 제외한 필드 수
+    int getFieldCount();
+
+    boolean hasNext();
+
+    String nextString();
+
+    int nextInt();
+
+    double nextDouble();
+
+    // 소수 둘째 자리까지의 값을 100 을 곱한 정수로 읽음 (FIXED2 필드, 실수를 거치지 않음)
+    int nextFixed2();
+
+    boolean nextBoolean();
+
+    // 남은 필드를 모두 문자열로 꺼냄 (방 목록, 게임 액션 파라미터 등)
+    String[] remainingStrings();
+}
@@ -0,0 +1,160 @@
+/*
+ * game.protocol.Opcode.java
+ * 프로토콜 메시지 타입과 바이너리 opcode, 필드 스키마를 정의하는 열거형
+ * - 텍스트 이름은 GameEvent 의 상수를 그대로 사용함 (텍스트 프로토콜과 1:1 대응)
+ * - 스키마에 정의된 필드 뒤에 오는 필드는 모두 STRING 으로 취급함 (방 목록, 게임 액션 파라미터 등)
+ * - 스키마 필드도 뒤쪽은 생략될 수 있음 (WORD_SPAWNED 의 특수 효과, GAME_OVER 의 FORFEIT 등)
+ */
+
+package game.protocol;
+
+import client.event.GameEvent.ClientCommand;
+import client.event.GameEvent.ClientEvent;
+import client.event.GameEvent.ServerMessage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static game.protocol.FieldType.*;
+
+public enum Opcode {
+    // 스키마로 옮길 수 없는 메시지, 텍스트 한 줄을 그대로 감싸서 보냄
+    RAW(0, null, STRING),
+
+    // 클라이언트 -> 서버
+    LOGIN(1, ClientCommand.LOGIN, STRING),
+    LOGOUT(2, ClientCommand.LOGOUT),
+    CREATE_ROOM(3, ClientCommand.CREATE_ROOM, STRING, STRING, STRING, STRING, INT),
+    JOIN_ROOM(4, ClientCommand.JOIN_ROOM, STRING, STRING),
+    LEAVE_ROOM(5, ClientCommand.LEAVE_ROOM, STRING),
+    ROOM_LIST(6, ClientCommand.ROOM_LIST, INT),
+    PLAYER_LIST(7, ClientCommand.PLAYER_LIST, STRING),
+    START_GAME(8, ClientCommand.START_GAME, STRING),
+    GAME_ACTION(9, ClientCommand.GAME_ACTION, STRING, STRING),
+    LEADERBOARD_ACTION(10, ClientCommand.LEADERBOARD_ACTION, STRING, STRING, STRING),
+    USERS_REQUEST(11, ClientCommand.USERS_REQUEST),
+    PING(12, ClientCommand.PING),
+    SUBSCRIBE(13, ClientCommand.SUBSCRIBE),
+    UNSUBSCRIBE(14, ClientCommand.UNSUBSCRIBE),
+
+    // 양방향 (같은 이름을 서버와 클라이언트가 모두 사용)
+    CHAT(20, ClientCommand.CHAT, STRING, STRING),
+    SETTINGS_UPDATED(21, ClientEvent.SETTINGS_UPDATED, STRING, STRING, STRING),
+    PROTOCOL(22, ServerMessage.PROTOCOL, STRING),
+
+    // 서버 -> 클라이언트
+    USERS(32, ServerMessage.USERS, INT),
+    ROOM_LIST_RESPONSE(33, ServerMessage.ROOM_LIST_RESPONSE),
+    PLAYER_LIST_RESPONSE(34, ServerMessage.PLAYER_LIST_RESPONSE, STRING, INT, STRING),
+    CREATE_ROOM_RESPONSE(35, ServerMessage.CREATE_ROOM_RESPONSE, BOOL, STRING, STRING, STRING),
+    JOIN_ROOM_RESPONSE(36, ServerMessage.JOIN_ROOM_RESPONSE, BOOL, STRING, STRING),
+    ROOM_CLOSED(37, ServerMessage.ROOM_CLOSED, STRING, STRING),
+    HOST_LEFT(38, ServerMessage.HOST_LEFT, STRING, STRING),
+    NEW_HOST(39, ServerMessage.NEW_HOST, STRING, STRING),
+    WORD_SPAWNED(40, ServerMessage.WORD_SPAWNED, STRING, INT, STRING, INT, STRING, INT),
+    WORD_MATCHED(41, ServerMessage.WORD_MATCHED, STRING, INT, STRING, INT),
+    WORD_MISSED(42, ServerMessage.WORD_MISSED, STRING, INT, STRING, FIXED2),
+    BLIND_EFFECT(43, ServerMessage.BLIND_EFFECT, STRING, STRING, INT),
+    GAME_OVER(44, ServerMessage.GAME_OVER, STRING, STRING, INT, INT, STRING),
+    PH_UPDATE(45, ServerMessage.PH_UPDATE, STRING, STRING, FIXED2),
+    PLAYER_UPDATE(46, ServerMessage.PLAYER_UPDATE, STRING, INT, STRING),
+    GAME_START(47, ServerMessage.GAME_START, INT),
+    GAME_CONFIG(48, ServerMessage.GAME_CONFIG, STRING, STRING, STRING),
+    LEADERBOARD_DATA(49, ServerMessage.LEADERBOARD_DATA, STRING),
+    LEADERBOARD_UPDATE(50, ServerMessage.LEADERBOARD_UPDATE, STRING, STRING, INT),
+    MY_RECORDS_DATA(51, ServerMessage.MY_RECORDS_DATA),
+    ERROR(52, ServerMessage.ERROR, STRING),
+    PONG(53, ServerMessage.PONG),
+    ROOM_SNAPSHOT(54, ServerMessage.ROOM_SNAPSHOT, INT),
+    ROOM_ADDED(55, ServerMessage.ROOM_ADDED, INT, STRING),
+    ROOM_UPDATED(56, ServerMessage.ROOM_UPDATED, INT, STRING),
+    ROOM_REMOVED(57, ServerMessage.ROOM_REMOVED, INT, STRING),
+    ROOM_LIST_CURRENT(58, ServerMessage.ROOM_LIST_CURRENT, INT),
+    EFFECT_ENDED(59, ServerMessage.EFFECT_ENDED, STRING, STRING, STRING);
+
+    private static final Opcode[] BY_CODE = new Opcode[256];
+    private static final Map<String, Opcode> BY_NAME = new HashMap<>();
+    // 텍스트 이름의 바이트 길이별 후보 (수신한 바이트에서 String 을 만들지 않고 찾기 위함)
+    private static final Opcode[][] BY_LENGTH;
+
+    static {
+        Map<Integer, List<Opcode>> byLength = new HashMap<>();
+        int maxLength = 0;
+        for (Opcode opcode : values()) {
+            BY_CODE[opcode.code] = opcode;
+            if (opcode.text != null) {
+                BY_NAME.put(opcode.text, opcode);
+                byLength.computeIfAbsent(opcode.text.length(), k -> new ArrayList<>()).add(opcode);
+                maxLength = Math.max(maxLength, opcode.text.length());
+            }
+        }
+        BY_LENGTH = new Opcode[maxLength + 1][];
+        for (Map.Entry<Integer, List<Opcode>> entry : byLength.entrySet()) {
+            BY_LENGTH[entry.getKey()] = entry.getValue().toArray(new Opcode[0]);
+        }
+    }
+
+    private final int code;
+    private final String text;
+    private final FieldType[] schema;
+
+    Opcode(int code, String text, FieldType... schema) {
+        this.code = code;
+        this.text = text;
+        this.schema = schema;
+    }
+
+    public int getCode() {
+        return code;
+    }
+
+    // 텍스트 프로토콜에서 사용하는 메시지 타입 이름
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * index 번째 필드(타입 제외, 0부터)의 인코딩 방식을 반환합니다.
+     * 스키마 뒤의 필드는 STRING 입니다.
+     */
+    public FieldType fieldType(int index) {
+        return index < schema.length ? schema[index] : STRING;
+    }
+
+    public static Opcode fromCode(int code) {
+        return code >= 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+
+    // 텍스트 메시지 타입으로 opcode 를 찾음, 없으면 null
+    public static Opcode fromText(String text) {
+        return BY_NAME.get(text);
+    }
+
+    /**
+     * UTF-8 바이트로 된 메시지 타입으로 opcode 를 찾습니다. 타입 이름은 모두 ASCII 입니다.
+     *
+     * @return 일치하는 opcode, 없으면 null
+     */
+    public static Opcode fromText(byte[] buffer, int offset, int length) {
+        if (length <= 0 || length >= BY_LENGTH.length || BY_LENGTH[length] == null) {
+            return null;
+        }
+        for (Opcode candidate : BY_LENGTH[length]) {
+            if (candidate.matches(buffer, offset, length)) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private boolean matches(byte[] buffer, int offset, int length) {
+        for (int i = 0; i < length; i++) {
+            if (buffer[offset + i] != text.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * game.protocol.ProtocolText.java
+ * 텍스트 프로토콜 필드의 이스케이프 처리
+ * 사용자가 입력한 문자열(이름, 방 이름, 채팅, 단어 등)에 '|' 나 줄바꿈이 있어도 필드가 깨지지 않도록 함
+ *   '\' -> "\\",  '|' -> "\|",  줄바꿈 -> "\n",  CR -> "\r"
+ * 이스케이프할 문자가 없는 문자열은 그대로 반환함 (대부분의 메시지는 추가 할당 없음)
+ */
+
+package game.protocol;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+public final class ProtocolText {
+    private ProtocolText() {
+    }
+
+    /**
+     * 문자열 하나를 텍스트 프로토콜의 필드로 쓸 수 있게 이스케이프합니다.
+     *
+     * @param value 원본 문자열 (null 이면 빈 문자열)
+     * @return 이스케이프된 문자열
+     */
+    public static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        int i = 0;
+        while (i < value.length() && !needsEscape(value.charAt(i))) {
+            i++;
+        }
+        if (i == value.length()) {
+            return value;
+        }
+        StringBuilder sb = new StringBuilder(value.length() + 8);
+        sb.append(value, 0, i);
+        appendEscaped(sb, value, i);
+        return sb.toString();
+    }
+
+    // sb 에 value 를 이스케이프해서 덧붙임
+    public static void appendEscaped(StringBuilder sb, String value) {
+        if (value != null) {
+            appendEscaped(sb, value, 0);
+        }
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value, int from) {
+        for (int i = from; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '|':
+                    sb.append("\\|");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                default:
+                    sb.append(c);
+            }
+        }
+    }
+
+    private static boolean needsEscape(char c) {
+        return c == '\\' || c == '|' || c == '\n' || c == '\r';
+    }
+
+    /**
+     * UTF-8 바이트 구간의 이스케이프를 풀어 문자열로 만듭니다.
+     * 끝에 홀로 남은 '\' 는 그대로 둡니다.
+     */
+    public static String unescape(byte[] buffer, int from, int to) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(to - from);
+        for (int i = from; i < to; i++) {
+            byte b = buffer[i];
+            if (b == '\\' && i + 1 < to) {
+                b = buffer[++i];
+                if (b == 'n') {
+                    b = '\n';
+                } else if (b == 'r') {
+                    b = '\r';
+                }
+            }
+            out.write(b);
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
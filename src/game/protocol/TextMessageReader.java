@@ -0,0 +1,324 @@
+/*
+ * game.protocol.TextMessageReader.java
+ * '|' 로 구분된 텍스트 메시지를 읽는 커서 방식 리더
+ * - split 으로 String[] 을 만들지 않고, 수신한 UTF-8 바이트 위에서 필드 경계만 옮겨가며 읽음
+ * - 정수/실수는 바이트에서 바로 파싱하고, 문자열은 nextString 을 호출할 때만 만듦
+ * - reset 으로 다음 줄을 가리키게 해서 연결마다 하나의 리더를 재사용함
+ * - 필드 분리는 기존 split 규칙(끝의 빈 필드는 버림)을 그대로 따름
+ * - '\' 로 이스케이프된 '|' 는 구분자가 아님 (ProtocolText 참고)
+ * UTF-8 멀티바이트 문자의 바이트는 모두 0x80 이상이라 '|', '\' 와 헷갈리지 않음
+ */
+
+package game.protocol;
+
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+public final class TextMessageReader implements MessageReader {
+    // 이 자릿수 이하의 10진수는 long 가수와 10의 거듭제곱 나눗셈으로 Double.parseDouble 과 같은 값이 나옴
+    private static final int MAX_EXACT_DIGITS = 15;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private byte[] buffer;
+    private int start;       // 메시지 시작
+    private int length;      // 메시지 전체 길이 (로그용)
+    private int end;         // 끝의 빈 필드를 뺀 메시지 끝
+    private int typeEnd;     // 타입 필드 끝
+    private int position;    // 다음 필드 시작
+    private int fieldCount;
+    private int fieldIndex;
+    private Opcode opcode;
+
+    // 마지막으로 찾은 필드의 범위
+    private int fieldStart;
+    private int fieldEnd;
+    private boolean fieldEscaped;
+
+    // 비어 있는 리더, reset 으로 메시지를 지정해서 사용
+    public TextMessageReader() {
+    }
+
+    public TextMessageReader(String line) {
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        reset(bytes, 0, bytes.length);
+    }
+
+    /**
+     * 리더가 새 메시지를 가리키도록 합니다. 바이트는 복사하지 않습니다.
+     *
+     * @param buffer 줄바꿈을 뺀 UTF-8 메시지가 담긴 버퍼
+     * @param offset 메시지 시작 위치
+     * @param length 메시지 길이
+     * @return 이 리더
+     */
+    public TextMessageReader reset(byte[] buffer, int offset, int length) {
+        this.buffer = buffer;
+        this.start = offset;
+        this.length = length;
+
+        int limit = offset + length;
+        this.typeEnd = findSeparator(offset, limit);
+        // String.split 과 같이 끝의 빈 필드는 버림
+        while (limit > typeEnd && buffer[limit - 1] == '|' && !isEscaped(limit - 1)) {
+            limit--;
+        }
+        this.end = limit;
+        this.fieldCount = typeEnd < end ? countSeparators(typeEnd + 1, end) + 1 : 0;
+        this.fieldIndex = 0;
+        this.position = typeEnd + 1;
+        this.opcode = Opcode.fromText(buffer, offset, typeEnd - offset);
+        return this;
+    }
+
+    @Override
+    public Opcode getOpcode() {
+        return opcode;
+    }
+
+    @Override
+    public String getType() {
+        return opcode != null ? opcode.getText() : decode(start, typeEnd, true);
+    }
+
+    @Override
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return fieldIndex < fieldCount;
+    }
+
+    @Override
+    public String nextString() {
+        nextField();
+        return decode(fieldStart, fieldEnd, fieldEscaped);
+    }
+
+    @Override
+    public int nextInt() {
+        nextField();
+        int i = fieldStart;
+        if (i == fieldEnd) {
+            throw invalidNumber();
+        }
+        boolean negative = false;
+        if (buffer[i] == '-' || buffer[i] == '+') {
+            negative = buffer[i] == '-';
+            if (++i == fieldEnd) {
+                throw invalidNumber();
+            }
+        }
+        // Integer.parseInt 과 같이 음수로 누적해서 MIN_VALUE 까지 처리
+        int limit = negative ? Integer.MIN_VALUE : -Integer.MAX_VALUE;
+        int result = 0;
+        for (; i < fieldEnd; i++) {
+            int digit = buffer[i] - '0';
+            if (digit < 0 || digit > 9 || result < limit / 10) {
+                throw invalidNumber();
+            }
+            result *= 10;
+            if (result < limit + digit) {
+                throw invalidNumber();
+            }
+            result -= digit;
+        }
+        return negative ? result : -result;
+    }
+
+    @Override
+    public double nextDouble() {
+        nextField();
+        int i = fieldStart;
+        boolean negative = false;
+        if (i < fieldEnd && (buffer[i] == '-' || buffer[i] == '+')) {
+            negative = buffer[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < fieldEnd; i++) {
+            byte b = buffer[i];
+            if (b >= '0' && b <= '9') {
+                mantissa = mantissa * 10 + (b - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+
+        if (i == fieldEnd && digits > 0 && digits <= MAX_EXACT_DIGITS) {
+            double value = fractionDigits > 0 ? mantissa / POWERS_OF_TEN[fractionDigits] : mantissa;
+            return negative ? -value : value;
+        }
+        // 지수 표기, 자릿수가 많은 값 등은 JDK 파서로 처리
+        return Double.parseDouble(decode(fieldStart, fieldEnd, fieldEscaped));
+    }
+
+    @Override
+    public int nextFixed2() {
+        nextField();
+        if (fieldEscaped) {
+            return parseFixed2(decode(fieldStart, fieldEnd, true));
+        }
+        return parseFixed2(buffer, fieldStart, fieldEnd);
+    }
+
+    static int parseFixed2(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        return parseFixed2(bytes, 0, bytes.length);
+    }
+
+    // "6.8", "6.80", "-0.25", "7" 등을 100 을 곱한 정수로, 셋째 자리 이하는 HALF_UP 으로 반올림 ("%.2f" 와 같은 규칙)
+    private static int parseFixed2(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        long value = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        boolean roundUp = false;
+        for (; i < to; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                if (fractionDigits >= 2) {
+                    // 셋째 자리는 반올림에만 쓰고 그 뒤는 버림
+                    if (fractionDigits++ == 2) {
+                        roundUp = b >= '5';
+                    }
+                    continue;
+                }
+                value = value * 10 + (b - '0');
+                digits++;
+                if (value > Integer.MAX_VALUE) {
+                    throw invalidFixed2(bytes, from, to);
+                }
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                throw invalidFixed2(bytes, from, to);
+            }
+        }
+        if (digits == 0) {
+            throw invalidFixed2(bytes, from, to);
+        }
+
+        for (int f = Math.max(fractionDigits, 0); f < 2; f++) {
+            value *= 10;
+        }
+        if (roundUp) {
+            value++;
+        }
+        if (value > Integer.MAX_VALUE) {
+            throw invalidFixed2(bytes, from, to);
+        }
+        return (int) (negative ? -value : value);
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        nextField();
+        // Boolean.parseBoolean 과 같이 대소문자 구분 없이 "true" 만 참
+        if (fieldEnd - fieldStart != 4) {
+            return false;
+        }
+        return (buffer[fieldStart] | 0x20) == 't'
+                && (buffer[fieldStart + 1] | 0x20) == 'r'
+                && (buffer[fieldStart + 2] | 0x20) == 'u'
+                && (buffer[fieldStart + 3] | 0x20) == 'e';
+    }
+
+    @Override
+    public String[] remainingStrings() {
+        String[] remaining = new String[fieldCount - fieldIndex];
+        for (int i = 0; i < remaining.length; i++) {
+            remaining[i] = nextString();
+        }
+        return remaining;
+    }
+
+    private void nextField() {
+        if (fieldIndex >= fieldCount) {
+            throw new NoSuchElementException("필드가 부족합니다: " + this);
+        }
+        fieldStart = position;
+        fieldEnd = findSeparator(position, end);
+        position = fieldEnd + 1;
+        fieldIndex++;
+    }
+
+    // from 부터 이스케이프되지 않은 '|' 의 위치를 찾음, 없으면 limit
+    private int findSeparator(int from, int limit) {
+        fieldEscaped = false;
+        for (int i = from; i < limit; i++) {
+            byte b = buffer[i];
+            if (b == '\\') {
+                fieldEscaped = true;
+                i++;
+            } else if (b == '|') {
+                return i;
+            }
+        }
+        return limit;
+    }
+
+    private int countSeparators(int from, int limit) {
+        int count = 0;
+        for (int i = from; i < limit; i++) {
+            byte b = buffer[i];
+            if (b == '\\') {
+                i++;
+            } else if (b == '|') {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // index 앞의 연속된 '\' 가 홀수 개면 이스케이프된 문자
+    private boolean isEscaped(int index) {
+        int count = 0;
+        for (int i = index - 1; i >= start && buffer[i] == '\\'; i--) {
+            count++;
+        }
+        return (count & 1) == 1;
+    }
+
+    private String decode(int from, int to, boolean escaped) {
+        if (!escaped) {
+            return new String(buffer, from, to - from, StandardCharsets.UTF_8);
+        }
+        return ProtocolText.unescape(buffer, from, to);
+    }
+
+    private static NumberFormatException invalidFixed2(byte[] bytes, int from, int to) {
+        return new NumberFormatException("For input string: \"" + new String(bytes, from, to - from, StandardCharsets.UTF_8) + "\"");
+    }
+
+    private NumberFormatException invalidNumber() {
+        return new NumberFormatException("For input string: \"" + decode(fieldStart, fieldEnd, fieldEscaped) + "\"");
+    }
+
+    @Override
+    public String toString() {
+        return buffer == null ? "" : new String(buffer, start, length, StandardCharsets.UTF_8);
+    }
+}
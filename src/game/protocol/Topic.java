@@ -0,0 +1,39 @@
+/*
+ * game.protocol.Topic.java
+ * 서버 브로드캐스트의 구독 주제(topic) 이름
+ * - lobby: 방 목록 변경 (ROOM_ADDED / ROOM_UPDATED / ROOM_REMOVED, 기존 ROOM_LIST_RESPONSE, ROOM_CLOSED)
+ * - global-stats: 전체 접속자 수 (USERS)
+ * - room:<방ID>: 방 안의 메시지, 방에 들어가고 나갈 때 서버가 관리함
+ * - leaderboard:<모드>_<난이도>: 해당 리더보드의 새 기록 (LEADERBOARD_UPDATE)
+ * 클라이언트는 SUBSCRIBE|주제... / UNSUBSCRIBE|주제... 로 화면에 필요한 주제만 받음
+ * 구독을 바꾸지 않은 기존 클라이언트는 접속 시 lobby, global-stats 를 구독한 상태로 시작함
+ */
+
+package game.protocol;
+
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+
+public final class Topic {
+    public static final String LOBBY = "lobby";
+    public static final String GLOBAL_STATS = "global-stats";
+
+    private static final String ROOM_PREFIX = "room:";
+    private static final String LEADERBOARD_PREFIX = "leaderboard:";
+
+    private Topic() {
+    }
+
+    public static String room(String roomId) {
+        return ROOM_PREFIX + roomId;
+    }
+
+    public static String leaderboard(GameMode mode, DifficultyLevel difficulty) {
+        return LEADERBOARD_PREFIX + mode.name() + "_" + difficulty.name();
+    }
+
+    // 클라이언트가 직접 구독할 수 있는 주제인지 확인 (방 주제는 입장/퇴장으로만 바뀜)
+    public static boolean isClientSubscribable(String topic) {
+        return LOBBY.equals(topic) || GLOBAL_STATS.equals(topic) || topic.startsWith(LEADERBOARD_PREFIX);
+    }
+}
@@ -0,0 +1,29 @@
+/*
+ * game.protocol.WireFormat.java
+ * 서버-클라이언트 간 전송 형식
+ * - TEXT: '|' 로 구분된 UTF-8 텍스트 한 줄 (기존 형식, 기본값)
+ * - BINARY: varint 길이 + 1바이트 opcode + 타입이 정해진 필드
+ * 협상 순서 (방향마다 PROTOCOL 메시지를 경계로 형식이 바뀜)
+ *   1. 클라이언트 -> 서버: LOGIN|이름|BINARY (텍스트)
+ *   2. 서버 -> 클라이언트: PROTOCOL|BINARY (텍스트), 이후 서버가 보내는 메시지는 BINARY
+ *   3. 클라이언트 -> 서버: PROTOCOL|BINARY (텍스트), 이후 클라이언트가 보내는 메시지는 BINARY
+ * 형식을 요청하지 않은 기존 클라이언트와, PROTOCOL 을 모르는 기존 서버는 계속 TEXT 로 주고받음
+ */
+
+package game.protocol;
+
+public enum WireFormat {
+    TEXT,
+    BINARY;
+
+    public static WireFormat fromString(String value) {
+        if (value != null) {
+            for (WireFormat format : values()) {
+                if (format.name().equalsIgnoreCase(value.trim())) {
+                    return format;
+                }
+            }
+        }
+        return TEXT;
+    }
+}
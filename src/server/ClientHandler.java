@@ -1,42 +1,49 @@
 package server;
 
 import client.event.GameEvent.*;
+import game.protocol.MessageBuilder;
+import game.protocol.MessageReader;
+import game.protocol.Opcode;
+import game.protocol.WireFormat;
+import server.network.Connection;
+import server.network.ConnectionListener;
+import server.network.OutboundMessage;
+import server.network.SocketConnection;
+import server.network.WriteBatch;
 
 import java.io.*;
-import java.net.Socket;
 import java.net.SocketException;
 import java.util.logging.Logger;
 
-public class ClientHandler implements Runnable {
+public class ClientHandler implements Runnable, ConnectionListener {
     private static final Logger logger = Logger.getLogger(ClientHandler.class.getName());
 
-    private final Socket socket;
+    private final Connection connection;
     private final GameServer server;
-    private PrintWriter out;
-    private BufferedReader in;
     private String username;
-    private String currentRoomId;
+    // 방 mailbox 스레드에서 바뀌고 읽기 루프에서 읽음
+    private volatile String currentRoomId;
     private volatile boolean running = true;
+    // ROOM_LIST|버전 으로 요청한 클라이언트는 방 목록을 변경분으로 받음
+    private volatile boolean roomDeltaEnabled = false;
 
-    public ClientHandler(Socket socket, GameServer server) {
-        this.socket = socket;
+    /**
+     * 연결(블로킹 소켓, NIO)로 핸들러를 생성합니다.
+     * 완성된 메시지는 연결의 읽기 루프에서 {@link #onMessage(String)} 로 전달됩니다.
+     */
+    public ClientHandler(Connection connection, GameServer server) {
+        this.connection = connection;
         this.server = server;
-        try {
-            this.out = new PrintWriter(new OutputStreamWriter(socket.getOutputStream(), "UTF-8"), true);
-            this.in = new BufferedReader(new InputStreamReader(socket.getInputStream(), "UTF-8"));
-        } catch (IOException e) {
-            logger.severe("클라이언트 핸들러 초기화 실패: " + e.getMessage());
-            running = false;
-        }
     }
 
+    // 블로킹 소켓 모드의 읽기 루프, 플랫폼 스레드나 가상 스레드에서 실행됨
     @Override
     public void run() {
+        if (!(connection instanceof SocketConnection socketConnection)) {
+            throw new IllegalStateException("블로킹 소켓 연결에서만 읽기 루프를 실행할 수 있습니다.");
+        }
         try {
-            String message;
-            while (running && (message = in.readLine()) != null) {
-                processMessage(message);
-            }
+            socketConnection.readLoop(this);
         } catch (SocketException e) {
             if (running) {
                 logger.warning("클라이언트와의 연결 종료: " + e.getMessage());
@@ -49,119 +56,198 @@ public class ClientHandler implements Runnable {
             cleanup();
         }
     }
+
+    // 연결의 읽기 루프(블로킹 소켓 또는 NIO)가 완성된 프레임을 넘겨줄 때 호출됨
+    @Override
+    public void onMessage(MessageReader message) {
+        if (!running) {
+            return;
+        }
+        // 명령 하나를 처리하는 동안 보낸 메시지는 연결별로 모아서 한 번에 씀
+        WriteBatch.run(() -> processMessage(message));
+        if (!running) {
+            // LOGOUT 등으로 종료가 요청된 경우 연결을 닫음 -> 읽기 루프가 끝나면서 정리
+            connection.close();
+        }
+    }
+
+    @Override
+    public void onClosed() {
+        cleanup();
+    }
+
     /**
      * 클라이언트로부터 수신한 메시지를 처리합니다.
+     * 텍스트/바이너리 형식과 상관없이 필드는 reader 에서 타입에 맞게 꺼내 씀
      *
-     * @param message 수신한 메시지
+     * @param reader 수신한 메시지
      */
 
-    private void processMessage(String message) {
-        String[] parts = message.split("\\|");
-        String messageType = parts[0];
+    private void processMessage(MessageReader reader) {
+        Opcode opcode = reader.getOpcode();
+        if (opcode == null) {
+            logger.warning("알 수 없는 메시지 타입: " + reader.getType());
+            sendMessage(ServerMessage.ERROR + "|지원하지 않는 메시지 타입입니다.");
+            return;
+        }
 
         try {
-            switch (messageType) {
-                case ClientCommand.LOGIN:
-                    handleLogin(parts);
+            switch (opcode) {
+                case LOGIN:
+                    handleLogin(reader);
                     break;
-                case ClientCommand.CREATE_ROOM:
-                    server.createRoom(parts, this);
+                case CREATE_ROOM:
+                    handleCreateRoom(reader);
                     break;
-                case ClientCommand.JOIN_ROOM:
-                    handleJoinRoom(parts);
+                case JOIN_ROOM:
+                    handleJoinRoom(reader);
                     break;
-                case ClientCommand.LEAVE_ROOM:
-                    handleLeaveRoom(parts);
+                case LEAVE_ROOM:
+                    handleLeaveRoom(reader);
                     break;
-                case ClientCommand.CHAT:
-                    handleChat(parts);
+                case CHAT:
+                    handleChat(reader);
                     break;
-                case ClientEvent.SETTINGS_UPDATED:
-                    handleSettingsUpdate(parts);
+                case SETTINGS_UPDATED:
+                    handleSettingsUpdate(reader);
                     break;
-                case ClientCommand.START_GAME:
-                    handleGameStart(parts);
+                case START_GAME:
+                    handleGameStart(reader);
                     break;
-                case ClientCommand.GAME_ACTION:
-                    handleGameAction(parts);
+                case GAME_ACTION:
+                    handleGameAction(reader);
                     break;
-                case "PING":
-                    sendMessage("PONG");
+                case PING:
+                    sendMessage(ServerMessage.PONG);
                     break;
-                case ClientCommand.ROOM_LIST:
-                    server.broadcastRoomList();
+                case PROTOCOL:
+                    handleProtocol(reader);
                     break;
-                case ClientCommand.PLAYER_LIST:
-                    handlePlayerList(parts);
+                case ROOM_LIST:
+                    handleRoomList(reader);
                     break;
-                case ClientCommand.LOGOUT:
+                case PLAYER_LIST:
+                    handlePlayerList(reader);
+                    break;
+                case LOGOUT:
                     handleLogout();
                     break;
 
-                case "LEADERBOARD_ACTION":
-                    handleLeaderboardAction(parts);
+                case LEADERBOARD_ACTION:
+                    handleLeaderboardAction(reader);
                     break;
 
                 // must be removed after refactoring
-                case ClientCommand.USERS_REQUEST:
-                    server.broadcastUserCount();
+                case USERS_REQUEST:
+                    server.sendUserCount(this);
+                    break;
+                case SUBSCRIBE:
+                    handleSubscribe(reader, true);
+                    break;
+                case UNSUBSCRIBE:
+                    handleSubscribe(reader, false);
                     break;
 
                 default:
-                    logger.warning("알 수 없는 메시지 타입: " + messageType);
+                    logger.warning("알 수 없는 메시지 타입: " + reader.getType());
                     sendMessage(ServerMessage.ERROR + "|지원하지 않는 메시지 타입입니다.");
             }
         } catch (Exception e) {
             logger.severe("메시지 처리 중 오류 발생: " + e.getMessage());
-            sendMessage(ServerMessage.ERROR + "|메시지 처리 중 오류가 발생했습니다: " + e.getMessage());
+            sendMessage(MessageBuilder.start(ServerMessage.ERROR).field()
+                    .text("메시지 처리 중 오류가 발생했습니다: ").text(e.getMessage()).build());
         }
     }
 
-    private void handleLogin(String[] parts) {
-        if (parts.length >= 2) {
-            this.username = parts[1];
+    private void handleLogin(MessageReader reader) {
+        if (reader.getFieldCount() >= 1) {
+            this.username = reader.nextString();
             logger.info("로그인: " + username);
-            server.broadcastUserCount();
-            server.broadcastRoomList();
+            if (reader.hasNext()) {
+                negotiateWireFormat(WireFormat.fromString(reader.nextString()));
+            }
+            // 로그인으로 접속자 수가 바뀌지는 않으므로 로그인한 클라이언트에게만 현재 값을 보냄
+            server.sendUserCount(this);
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 로그인 요청입니다.");
         }
     }
 
-    private void handleJoinRoom(String[] parts) {
-        if (parts.length >= 2) {
-            String roomId = parts[1];
-            String password = parts.length >= 3 ? parts[2] : "";
+    /*
+     * LOGIN|이름|BINARY 로 바이너리 형식을 요청한 경우 PROTOCOL 메시지로 수락 여부를 알림
+     * PROTOCOL 응답은 텍스트로 나가고, 그 뒤로 서버가 보내는 메시지는 협상된 형식을 따름
+     * 받는 쪽은 클라이언트가 PROTOCOL 로 확인 응답을 보낸 뒤부터 바뀜 (handleProtocol)
+     * 형식을 지정하지 않은 기존 클라이언트는 지금처럼 텍스트로만 주고받음
+     */
+    private void negotiateWireFormat(WireFormat requested) {
+        WireFormat format = requested == WireFormat.BINARY && ServerConfig.isBinaryProtocolEnabled()
+                ? WireFormat.BINARY
+                : WireFormat.TEXT;
+        connection.switchOutboundFormat(format, MessageBuilder.start(ServerMessage.PROTOCOL).add(format.name()).build());
+        logger.info("전송 형식 협상: " + username + " -> " + format);
+    }
+
+    // 클라이언트의 확인 응답, 이 프레임 다음부터 클라이언트가 보내는 메시지를 협상된 형식으로 읽음
+    private void handleProtocol(MessageReader reader) {
+        WireFormat format = reader.hasNext() ? WireFormat.fromString(reader.nextString()) : WireFormat.TEXT;
+        if (format != connection.getOutboundFormat()) {
+            logger.warning("협상되지 않은 전송 형식 확인 응답: " + username + " -> " + format);
+            return;
+        }
+        connection.switchInboundFormat(format);
+    }
+
+    private void handleCreateRoom(MessageReader reader) {
+        if (reader.getFieldCount() < 5) {
+            sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|잘못된 요청 형식입니다.");
+            return;
+        }
+        String roomName = reader.nextString();
+        String password = reader.nextString();
+        String gameMode = reader.nextString();
+        String difficulty = reader.nextString();
+        int maxPlayers = reader.nextInt();
+        server.createRoom(this, roomName, password, gameMode, difficulty, maxPlayers);
+    }
+
+    private void handleJoinRoom(MessageReader reader) {
+        if (reader.getFieldCount() >= 1) {
+            String roomId = reader.nextString();
+            String password = reader.hasNext() ? reader.nextString() : "";
             server.joinRoom(roomId, this, password);
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 방 입장 요청입니다.");
         }
     }
 
-    private void handleLeaveRoom(String[] parts) {
+    private void handleLeaveRoom(MessageReader reader) {
         if (currentRoomId != null) {
             server.leaveRoom(currentRoomId, this);
             currentRoomId = null;
         }
     }
 
-    private void handleChat(String[] parts) {
-        if (parts.length >= 3 && currentRoomId != null) {
-            server.handleChat(currentRoomId, this, parts[2]);
+    private void handleChat(MessageReader reader) {
+        if (reader.getFieldCount() >= 2 && currentRoomId != null) {
+            reader.nextString(); // 방 ID, 현재 방 기준으로 처리
+            server.handleChat(currentRoomId, this, reader.nextString());
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 채팅 메시지입니다.");
         }
     }
 
-    private void handleSettingsUpdate(String[] parts) {
-        if (parts.length >= 4 && currentRoomId != null) {
-            server.updateGameSettings(currentRoomId, parts[2], parts[3], this);
+    private void handleSettingsUpdate(MessageReader reader) {
+        if (reader.getFieldCount() >= 3 && currentRoomId != null) {
+            reader.nextString(); // 방 ID, 현재 방 기준으로 처리
+            String settingType = reader.nextString();
+            String value = reader.nextString();
+            server.updateGameSettings(currentRoomId, settingType, value, this);
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 설정 업데이트 요청입니다.");
         }
     }
 
-    private void handleGameStart(String[] parts) {
+    private void handleGameStart(MessageReader reader) {
         if (currentRoomId != null) {
             server.startGame(currentRoomId, this);
         } else {
@@ -169,31 +255,59 @@ public class ClientHandler implements Runnable {
         }
     }
 
-    private void handleLeaderboardAction(String[] parts) {
-        if (parts.length >= 4) {
-            String[] params = new String[parts.length - 1];
-            System.arraycopy(parts, 1, params, 0, parts.length - 1);
-            server.handleLeaderboardAction(this, params);
+    private void handleLeaderboardAction(MessageReader reader) {
+        if (reader.getFieldCount() >= 3) {
+            server.handleLeaderboardAction(this, reader.remainingStrings());
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 리더보드 액션 요청입니다.");
         }
     }
 
-    private void handleGameAction(String[] parts) {
-        if (parts.length >= 3) {
-            String roomId = parts[1];
-            String action = parts[2];
-            String[] params = new String[parts.length - 3];
-            System.arraycopy(parts, 3, params, 0, parts.length - 3);
-            server.handleGameAction(roomId, this, action, params);
+    private void handleGameAction(MessageReader reader) {
+        if (reader.getFieldCount() >= 2) {
+            String roomId = reader.nextString();
+            String action = reader.nextString();
+            server.handleGameAction(roomId, this, action, reader.remainingStrings());
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 게임 액션 요청입니다.");
         }
     }
 
-    private void handlePlayerList(String[] parts) {
-        if (parts.length >= 2) {
-            String roomId = parts[1];
+    /**
+     * ROOM_LIST 는 요청한 클라이언트에게만 응답합니다.
+     * ROOM_LIST|알고있는버전 형식이면 이후 방 목록을 변경분(ROOM_ADDED 등)으로 받겠다는 뜻이고,
+     * 그 버전 이후에 놓친 변경분만 받습니다 (-1 이면 전체 목록).
+     */
+    private void handleRoomList(MessageReader reader) {
+        int knownVersion = -1;
+        if (reader.hasNext()) {
+            try {
+                knownVersion = reader.nextInt();
+                roomDeltaEnabled = true;
+            } catch (NumberFormatException e) {
+                // 버전이 아닌 값은 기존 요청으로 취급
+            }
+        }
+        server.sendRoomList(this, knownVersion);
+    }
+
+    // SUBSCRIBE|주제... / UNSUBSCRIBE|주제...
+    private void handleSubscribe(MessageReader reader, boolean subscribe) {
+        while (reader.hasNext()) {
+            String topic = reader.nextString();
+            if (subscribe) {
+                if (!server.subscribe(this, topic)) {
+                    logger.warning("구독할 수 없는 주제: " + topic + " (" + username + ")");
+                }
+            } else {
+                server.unsubscribe(this, topic);
+            }
+        }
+    }
+
+    private void handlePlayerList(MessageReader reader) {
+        if (reader.getFieldCount() >= 1) {
+            String roomId = reader.nextString();
             server.sendPlayerList(roomId, this);
         } else {
             sendMessage(ServerMessage.ERROR + "|잘못된 플레이어 목록 요청입니다.");
@@ -210,27 +324,50 @@ public class ClientHandler implements Runnable {
      * @param message 전송할 메시지
      */
     public void sendMessage(String message) {
-        if (out != null && !socket.isClosed() && running) {
-            out.println(message);
-            if (out.checkError()) {
+        sendMessage(OutboundMessage.of(message));
+    }
+
+    /**
+     * 미리 만들어 둔 메시지를 전송합니다. 브로드캐스트는 같은 메시지 객체를 모든 수신자에게 넘겨
+     * 인코딩을 한 번만 합니다.
+     *
+     * @param message 전송할 메시지
+     */
+    public void sendMessage(OutboundMessage message) {
+        if (connection.isOpen() && running) {
+            if (!connection.send(message)) {
+                logger.warning("메시지 전송 실패: " + message);
+                running = false;
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드의 WriteBatch 를 거치지 않고 바로 송신 대기열에 넣습니다.
+     * 여러 스레드가 보내는 메시지를 호출한 순서대로 도착하게 해야 할 때 씁니다 (방 목록 변경분).
+     */
+    public void sendMessageNow(OutboundMessage message) {
+        if (connection.isOpen() && running) {
+            if (!connection.sendNow(message)) {
                 logger.warning("메시지 전송 실패: " + message);
                 running = false;
             }
         }
     }
 
+    // 송신 대기열이 오래 줄지 않는 연결을 끊음, 읽기 쪽이 끊긴 연결을 보고 정리함
+    public void closeIfStalled() {
+        connection.closeIfStalled();
+    }
+
     public void shutdown() {
         running = false;
-        try {
-            if (out != null) out.close();
-            if (in != null) in.close();
-            if (socket != null && !socket.isClosed()) socket.close();
-        } catch (IOException e) {
-            logger.severe("리소스 정리 중 오류 발생: " + e.getMessage());
-        }
+        connection.close();
     }
 
     private void cleanup() {
+        // 방 입장 작업이 대기열에 남아 있어도 끊긴 연결임을 알 수 있도록 먼저 표시
+        running = false;
         try {
             if (currentRoomId != null) {
                 server.leaveRoom(currentRoomId, this);
@@ -245,6 +382,10 @@ public class ClientHandler implements Runnable {
         return username;
     }
 
+    public boolean isRoomDeltaEnabled() {
+        return roomDeltaEnabled;
+    }
+
     public String getCurrentRoomId() {
         return currentRoomId;
     }
@@ -253,7 +394,18 @@ public class ClientHandler implements Runnable {
         this.currentRoomId = roomId;
     }
 
+    // 퇴장 처리가 늦게 실행되어도 그 사이 입장한 다른 방 ID 를 지우지 않도록, 같은 방일 때만 지움
+    public void clearCurrentRoomId(String roomId) {
+        if (roomId.equals(currentRoomId)) {
+            currentRoomId = null;
+        }
+    }
+
     public boolean isRunning() {
         return running;
     }
+
+    public String getRemoteAddress() {
+        return connection.getRemoteAddress();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+/*
+ * server.CoalescingPublisher.java
+ * 자주 바뀌는 상태값(접속자 수 등)을 주제별로 모아서 보내는 발행기
+ * - 주제마다 window 안에서 최대 한 번만 보내고, 그 사이의 변경은 마지막 값 하나로 합침
+ * - 조용하던 주제의 첫 변경은 바로 보냄 (window 는 직전 전송 시각부터 잼)
+ * - 직전에 보낸 메시지와 같으면 보내지 않음
+ * - 보내지 않고 합치거나 버린 갱신 수를 세어 report 로 알림
+ * 재시작 직후 수천 명이 다시 접속할 때 접속마다 전원에게 USERS 를 보내던 O(N^2) 전송을 막기 위함
+ */
+
+package server;
+
+import server.network.OutboundMessage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class CoalescingPublisher {
+    private final TopicRegistry topics;
+    private final ScheduledExecutorService scheduler;
+    private final long windowNanos;
+    private final Map<String, TopicState> states = new ConcurrentHashMap<>();
+
+    private final LongAdder published = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * @param windowMillis 주제별 최소 전송 간격 (ms), 0 이면 바로 보내고 같은 값만 거름
+     */
+    public CoalescingPublisher(TopicRegistry topics, ScheduledExecutorService scheduler, long windowMillis) {
+        this.topics = topics;
+        this.scheduler = scheduler;
+        this.windowNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0, windowMillis));
+    }
+
+    /**
+     * 주제의 값이 바뀌었음을 알립니다. 메시지는 실제로 보낼 때 만들어지므로 항상 최신 값이 나갑니다.
+     *
+     * @param message 보낼 메시지를 만드는 함수
+     */
+    public void publish(String topic, Supplier<String> message) {
+        states.computeIfAbsent(topic, TopicState::new).update(message);
+    }
+
+    public long getPublishedCount() {
+        return published.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    public String report() {
+        return "상태 갱신 전송 " + published.sum() + ", 생략 " + suppressed.sum();
+    }
+
+    private class TopicState {
+        private final String topic;
+        private Supplier<String> pending;
+        private String lastSent;
+        private long lastSentAt;
+        private boolean scheduled;
+
+        TopicState(String topic) {
+            this.topic = topic;
+            this.lastSentAt = System.nanoTime() - windowNanos;
+        }
+
+        synchronized void update(Supplier<String> message) {
+            if (windowNanos == 0) {
+                send(message);
+                return;
+            }
+            if (pending != null) {
+                // 아직 보내지 않은 갱신은 새 값으로 덮어씀
+                suppressed.increment();
+            }
+            pending = message;
+            if (!scheduled) {
+                long delay = Math.max(0, lastSentAt + windowNanos - System.nanoTime());
+                try {
+                    scheduler.schedule(this::flush, delay, TimeUnit.NANOSECONDS);
+                    scheduled = true;
+                } catch (RejectedExecutionException e) {
+                    // 서버 종료 중에는 보내지 않음
+                }
+            }
+        }
+
+        synchronized void flush() {
+            scheduled = false;
+            Supplier<String> message = pending;
+            pending = null;
+            if (message != null) {
+                send(message);
+            }
+        }
+
+        private void send(Supplier<String> message) {
+            String text = message.get();
+            if (text.equals(lastSent)) {
+                suppressed.increment();
+                return;
+            }
+            lastSent = text;
+            lastSentAt = System.nanoTime();
+            topics.publish(topic, OutboundMessage.of(text));
+            published.increment();
+        }
+    }
+}
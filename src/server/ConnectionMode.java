@@ -0,0 +1,21 @@
+/*
+ * server.ConnectionMode.java
+ * 서버가 클라이언트 연결을 처리하는 방식을 나타내는 열거형
+ */
+
+package server;
+
+public enum ConnectionMode {
+    THREAD,   // 연결마다 플랫폼 스레드 하나 (블로킹 소켓)
+    VIRTUAL,  // 연결마다 가상 스레드 하나 (블로킹 소켓)
+    NIO;      // Selector 기반 논블로킹 I/O 루프
+
+    public static ConnectionMode fromString(String value) {
+        for (ConnectionMode mode : ConnectionMode.values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid ConnectionMode: " + value);
+    }
+}
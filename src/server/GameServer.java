@@ -6,46 +6,105 @@ import game.model.GameRoom;
 import client.event.GameEvent.*;
 
 import java.io.IOException;
+import java.net.InetSocketAddress;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Logger;
 
 import game.model.LeaderboardEntry;
+import game.protocol.MessageBuilder;
+import game.protocol.Topic;
+import server.game.GameTickService;
+import server.game.HashedWheelTimer;
 import server.game.LeaderboardManager;
+import server.game.RoomDirectory;
+import server.game.RoomMailbox;
 import server.game.ServerGameController;
+import server.game.WordCorpus;
+import server.network.NioConnection;
+import server.network.NioEventLoopGroup;
+import server.network.OutboundLimits;
+import server.network.OutboundMessage;
+import server.network.SlowConsumerPolicy;
+import server.network.SocketConnection;
+import server.network.WriteBatch;
+import server.network.WriteStats;
 
 public class GameServer {
     private static final Logger logger = Logger.getLogger(GameServer.class.getName());
     private final int port;
+    private final ConnectionMode connectionMode;
     private ServerSocket serverSocket;
+    private ServerSocketChannel serverChannel;
+    private NioEventLoopGroup eventLoopGroup;
     private volatile boolean running;
-    private final List<ClientHandler> clients = Collections.synchronizedList(new ArrayList<>());
+    private final Set<ClientHandler> clients = ConcurrentHashMap.newKeySet();
     private final Map<String, GameRoom> rooms = new ConcurrentHashMap<>();
     private final Map<String, Set<ClientHandler>> roomPlayers = new ConcurrentHashMap<>();
-    private int roomIdCounter = 1;
+    private final AtomicInteger roomIdCounter = new AtomicInteger(1);
     private final Map<String, ServerGameController> controllers = new ConcurrentHashMap<>();
+    // 방마다 하나씩, 방에 대한 작업은 모두 여기에 넣어 순서대로 실행함
+    private final Map<String, RoomMailbox> mailboxes = new ConcurrentHashMap<>();
+    private final ExecutorService roomExecutor;
+    // 모든 게임이 함께 쓰는 틱 스케줄러, 게임을 시작해도 스레드를 만들지 않음
+    private final GameTickService tickService;
+    // 효과 만료, 방 유휴 타임아웃처럼 한 번만 실행되는 짧은 타이머
+    private final HashedWheelTimer timer;
+    private final long roomIdleTimeoutMillis;
+    private final RoomDirectory roomDirectory = new RoomDirectory(this::publishRoomChange);
+    private final TopicRegistry topics = new TopicRegistry();
+    private final ThreadFactory clientThreadFactory;
+    private final OutboundLimits outboundLimits;
+    private ScheduledExecutorService statsReporter;
+    private final ScheduledExecutorService presenceScheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("presence-publisher").daemon(true).factory());
+    private final CoalescingPublisher presence = new CoalescingPublisher(topics, presenceScheduler,
+            ServerConfig.getLong(ServerConfig.PRESENCE_COALESCE, 250));
 
     public GameServer(int port) {
+        this(port, ConnectionMode.fromString(
+                ServerConfig.getProperty(ServerConfig.CONNECTION_MODE, ConnectionMode.THREAD.name())));
+    }
+
+    public GameServer(int port, ConnectionMode connectionMode) {
         this.port = port;
+        this.connectionMode = connectionMode;
+        this.clientThreadFactory = connectionMode == ConnectionMode.VIRTUAL
+                ? Thread.ofVirtual().name("client-", 0).factory()
+                : Thread.ofPlatform().name("client-", 0).factory();
+        this.outboundLimits = OutboundLimits.fromConfig();
+        // 방 작업을 실행하는 공유 풀, 방 하나는 한 번에 한 스레드에서만 실행되고 서로 다른 방은 동시에 실행됨
+        int roomThreads = ServerConfig.getInt(ServerConfig.ROOM_THREADS, Runtime.getRuntime().availableProcessors());
+        this.roomExecutor = Executors.newFixedThreadPool(Math.max(1, roomThreads),
+                Thread.ofPlatform().name("room-", 0).daemon(true).factory());
+        this.tickService = new GameTickService(
+                ServerConfig.getInt(ServerConfig.TICK_SHARDS, Runtime.getRuntime().availableProcessors()));
+        this.timer = new HashedWheelTimer("game-timer", ServerConfig.getLong(ServerConfig.TIMER_TICK, 50), 512);
+        this.roomIdleTimeoutMillis = TimeUnit.SECONDS.toMillis(ServerConfig.getLong(ServerConfig.ROOM_IDLE_TIMEOUT, 600));
     }
 
     public void start() {
         try {
-            serverSocket = new ServerSocket(port);
             running = true;
-            logger.info("서버가 포트 " + port + "에서 시작되었습니다.");
-
-            while (running) {
-                try {
-                    Socket clientSocket = serverSocket.accept();
-                    handleNewConnection(clientSocket);
-                } catch (IOException e) {
-                    if (running) {
-                        logger.severe("클라이언트 연결 수락 중 오류: " + e.getMessage());
-                    }
-                }
+            // 단어 목록은 서버 전체가 한 번만 읽고, 파일이 바뀌면 새 게임부터 반영함
+            WordCorpus.getInstance().preload();
+            WordCorpus.getInstance().startWatching();
+            startStatsReporter();
+            scheduleStallSweep();
+            if (connectionMode == ConnectionMode.NIO) {
+                acceptNioConnections();
+            } else {
+                acceptSocketConnections();
             }
         } catch (IOException e) {
             logger.severe("서버 시작 실패: " + e.getMessage());
@@ -55,18 +114,112 @@ public class GameServer {
         }
     }
 
-    private void handleNewConnection(Socket clientSocket) {
+    // 송신 통계(초당 메시지 수, write 호출 수, 절약한 syscall 수)를 주기적으로 로그에 남김
+    private void startStatsReporter() {
+        int interval = ServerConfig.getInt(ServerConfig.STATS_INTERVAL, 60);
+        if (interval <= 0) {
+            return;
+        }
+        statsReporter = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("stats-reporter").daemon(true).factory());
+        statsReporter.scheduleAtFixedRate(() -> logger.info("송신 통계: " + WriteStats.report() + ", " + presence.report() +
+                        ", " + tickService.report()),
+                interval, interval, TimeUnit.SECONDS);
+    }
+
+    /*
+     * DISCONNECT 정책에서 송신 대기열이 high watermark 위에 머문 연결을 주기적으로 끊음
+     * 대기열은 새 메시지를 넣을 때만 stall timeout 을 확인하므로, 더 보낼 메시지가 없는 연결은 여기서 정리함
+     * 타이머 스레드에서 도는 작업이라 연결마다 시각 비교만 하고, 끊긴 연결의 정리는 각 연결의 읽기 쪽에 맡김
+     */
+    private void scheduleStallSweep() {
+        if (outboundLimits.getPolicy() != SlowConsumerPolicy.DISCONNECT) {
+            return;
+        }
+        long interval = Math.max(100, Math.min(1000, outboundLimits.getStallTimeoutMillis() / 2));
+        timer.schedule(() -> {
+            if (!running) {
+                return;
+            }
+            for (ClientHandler client : clients) {
+                client.closeIfStalled();
+            }
+            scheduleStallSweep();
+        }, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private void acceptSocketConnections() throws IOException {
+        serverSocket = new ServerSocket(port);
+        logger.info("서버가 포트 " + port + "에서 시작되었습니다. (모드: " + connectionMode +
+                ", 송신 대기열: " + outboundLimits + ", 쓰기 묶음: " + WriteBatch.isEnabled() + ")");
+
+        while (running) {
+            try {
+                Socket clientSocket = serverSocket.accept();
+                handleNewConnection(clientSocket);
+            } catch (IOException e) {
+                if (running) {
+                    logger.severe("클라이언트 연결 수락 중 오류: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /*
+     * NIO 모드: 수락은 이 스레드에서 블로킹으로 처리하고,
+     * 이후 읽기/쓰기는 고정 개수의 I/O 루프가 나눠서 처리함
+     */
+    private void acceptNioConnections() throws IOException {
+        int ioThreads = ServerConfig.getInt(ServerConfig.IO_THREADS, Runtime.getRuntime().availableProcessors());
+        eventLoopGroup = new NioEventLoopGroup(ioThreads);
+        eventLoopGroup.start();
+
+        serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(new InetSocketAddress(port));
+        logger.info("서버가 포트 " + port + "에서 시작되었습니다. (모드: " + connectionMode +
+                ", I/O 루프: " + eventLoopGroup.size() + ", 송신 대기열: " + outboundLimits +
+                ", 쓰기 묶음: " + WriteBatch.isEnabled() + ")");
+
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                handleNewConnection(channel);
+            } catch (IOException e) {
+                if (running) {
+                    logger.severe("클라이언트 연결 수락 중 오류: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void handleNewConnection(SocketChannel channel) {
         try {
-            ClientHandler clientHandler = new ClientHandler(clientSocket, this);
-            if (clientHandler.isRunning()) {
-                clients.add(clientHandler);
-                new Thread(clientHandler).start();
-                logger.info("새로운 클라이언트 연결: " + clientSocket.getInetAddress());
-                broadcastUserCount();
-            } else {
-                logger.severe("클라이언트 핸들러 초기화 실패");
-                clientSocket.close();
+            NioConnection connection = eventLoopGroup.newConnection(channel, outboundLimits);
+            ClientHandler clientHandler = new ClientHandler(connection, this);
+            connection.setListener(clientHandler);
+            addClient(clientHandler);
+            eventLoopGroup.register(connection);
+            logger.info("새로운 클라이언트 연결: " + connection.getRemoteAddress());
+            broadcastUserCount();
+        } catch (IOException e) {
+            logger.severe("소켓 처리 중 오류: " + e.getMessage());
+            try {
+                channel.close();
+            } catch (IOException ex) {
+                logger.severe("소켓 닫기 실패: " + ex.getMessage());
             }
+        }
+    }
+
+    private void handleNewConnection(Socket clientSocket) {
+        try {
+            // 읽기 루프는 연결 모드에 맞는 스레드(플랫폼/가상), writer 는 항상 가상 스레드에서 실행됨
+            SocketConnection connection = new SocketConnection(clientSocket, outboundLimits);
+            ClientHandler clientHandler = new ClientHandler(connection, this);
+            addClient(clientHandler);
+            clientThreadFactory.newThread(clientHandler).start();
+            logger.info("새로운 클라이언트 연결: " + clientSocket.getInetAddress());
+            broadcastUserCount();
         } catch (IOException e) {
             logger.severe("소켓 처리 중 오류: " + e.getMessage());
             try {
@@ -77,53 +230,66 @@ public class GameServer {
         }
     }
 
-    public void sendPlayerList(String roomId, ClientHandler requester) {
-        GameRoom room = rooms.get(roomId);
-        if (room != null) {
-            String playerList = String.join(";", room.getPlayers());
-            broadcastToRoom(roomId,  ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" +
-                    room.getCurrentPlayers() + "|" + playerList);
-            logger.info("플레이어 목록 전송: " + roomId + " - " + playerList);
+    /*
+     * 방 단위 명령은 모두 방의 mailbox 에 넣어 방마다 한 번에 하나씩 실행함
+     * 방이 없거나 이미 닫혔으면 false 를 돌려주고, 호출한 쪽에서 실패 응답을 보냄
+     */
+    private boolean executeInRoom(String roomId, Runnable task) {
+        RoomMailbox mailbox = roomId != null ? mailboxes.get(roomId) : null;
+        if (mailbox == null) {
+            return false;
         }
+        mailbox.touch();
+        return mailbox.execute(task);
     }
 
-    public synchronized void createRoom(String[] roomInfo, ClientHandler creator) {
-        if (roomInfo.length < 6) {
-            creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|잘못된 요청 형식입니다.");
-            return;
-        }
+    public void sendPlayerList(String roomId, ClientHandler requester) {
+        executeInRoom(roomId, () -> {
+            GameRoom room = rooms.get(roomId);
+            if (room != null) {
+                broadcastToRoom(roomId, playerUpdateMessage(roomId, room));
+                logger.info("플레이어 목록 전송: " + roomId + " - " + String.join(";", room.getPlayers()));
+            }
+        });
+    }
 
-        String roomName = roomInfo[1];
-        String password = roomInfo[2];
-        GameMode gameMode = GameMode.fromDisplayName(roomInfo[3]);
-        DifficultyLevel difficulty = DifficultyLevel.fromDisplayName(roomInfo[4]);
-        int maxPlayers = Integer.parseInt(roomInfo[5]);
+    public void createRoom(ClientHandler creator, String roomName, String password,
+                           String gameModeName, String difficultyName, int maxPlayers) {
+        GameMode gameMode = GameMode.fromDisplayName(gameModeName);
+        DifficultyLevel difficulty = DifficultyLevel.fromDisplayName(difficultyName);
 
         if (roomName.isEmpty() || maxPlayers < 2 || maxPlayers > 4) {
             creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|false|잘못된 설정값입니다.");
             return;
         }
 
-        String roomId = "R" + roomIdCounter++;
+        String roomId = "R" + roomIdCounter.getAndIncrement();
         GameRoom room = new GameRoom(roomName, password, gameMode, difficulty, maxPlayers);
         room.setRoomId(roomId);
         room.setHostName(creator.getUsername());
         room.addPlayer(creator.getUsername());
 
-        rooms.put(roomId, room);
-        Set<ClientHandler> players = Collections.synchronizedSet(new HashSet<>());
+        // 방을 공개하기 전에 mailbox 를 먼저 만들어, 바로 들어오는 입장 요청도 생성 작업 뒤에 줄을 서게 함
+        RoomMailbox mailbox = new RoomMailbox(roomId, roomExecutor);
+        mailboxes.put(roomId, mailbox);
+        Set<ClientHandler> players = ConcurrentHashMap.newKeySet();
         players.add(creator);
         roomPlayers.put(roomId, players);
+        rooms.put(roomId, room);
 
-        String roomInfoStr = formatRoomInfo(room);
-        creator.sendMessage(ServerMessage.CREATE_ROOM_RESPONSE + "|true|방이 생성되었습니다.|" + roomInfoStr + "|" + roomId);
-        creator.setCurrentRoomId(roomId);
+        scheduleIdleCheck(mailbox, roomIdleTimeoutMillis);
+        mailbox.execute(() -> {
+            topics.subscribe(Topic.room(roomId), creator);
 
-        String playerList = String.join(";", room.getPlayers());
-        broadcastToRoom(roomId, ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
+            creator.sendMessage(MessageBuilder.start(ServerMessage.CREATE_ROOM_RESPONSE)
+                    .add(true).add("방이 생성되었습니다.").add(RoomDirectory.roomInfo(room)).add(roomId).build());
+            creator.setCurrentRoomId(roomId);
 
-        broadcastRoomList();
-        logger.info("방 생성 완료: " + roomId + ", 방장: " + creator.getUsername());
+            broadcastToRoom(roomId, playerUpdateMessage(roomId, room));
+
+            roomDirectory.roomChanged(room);
+            logger.info("방 생성 완료: " + roomId + ", 방장: " + creator.getUsername());
+        });
     }
     /**
      * 클라이언트를 특정 방에 입장.
@@ -133,87 +299,156 @@ public class GameServer {
      * @param password 방 비밀번호
      * @return 입장 성공 여부
      */
-    public synchronized void joinRoom(String roomId, ClientHandler client, String password) {
-        GameRoom room = rooms.get(roomId);
-        if (room == null) {
-            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|존재하지 않는 방입니다.");
-            return;
-        }
+    public void joinRoom(String roomId, ClientHandler client, String password) {
+        boolean queued = executeInRoom(roomId, () -> {
+            GameRoom room = rooms.get(roomId);
+            if (room == null) {
+                client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|존재하지 않는 방입니다.");
+                return;
+            }
 
-        if (room.isPasswordRequired() && !room.isPasswordValid(password)) {
-            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|비밀번호가 일치하지 않습니다.");
-            return;
-        }
+            if (room.isPasswordRequired() && !room.isPasswordValid(password)) {
+                client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|비밀번호가 일치하지 않습니다.");
+                return;
+            }
 
-        if (room.isFull()) {
-            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|방이 가득 찼습니다.");
-            return;
-        }
+            if (room.isFull()) {
+                client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|방이 가득 찼습니다.");
+                return;
+            }
 
-        if (room.isInGame()) {
-            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|이미 게임이 시작된 방입니다.");
-            return;
-        }
+            if (room.isInGame()) {
+                client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|이미 게임이 시작된 방입니다.");
+                return;
+            }
 
-        Set<ClientHandler> players = roomPlayers.get(roomId);
-        players.add(client);
-        room.addPlayer(client.getUsername());
-        client.setCurrentRoomId(roomId);
+            Set<ClientHandler> players = roomPlayers.get(roomId);
+            players.add(client);
+            topics.subscribe(Topic.room(roomId), client);
+            room.addPlayer(client.getUsername());
+            client.setCurrentRoomId(roomId);
 
-        String roomInfoStr = formatRoomInfo(room);
-        client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|true|방에 입장했습니다.|" + roomInfoStr);
+            client.sendMessage(MessageBuilder.start(ServerMessage.JOIN_ROOM_RESPONSE)
+                    .add(true).add("방에 입장했습니다.").add(RoomDirectory.roomInfo(room)).build());
 
-        String playerList = String.join(";", room.getPlayers());
-        broadcastToRoom(roomId,  ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
+            broadcastToRoom(roomId, playerUpdateMessage(roomId, room));
 
-        broadcastRoomList();
-        logger.info(client.getUsername() + "님이 " + roomId + " 방에 입장했습니다.");
+            roomDirectory.roomChanged(room);
+            logger.info(client.getUsername() + "님이 " + roomId + " 방에 입장했습니다.");
+
+            if (!client.isRunning()) {
+                // 대기열에 있는 동안 연결이 끊겼으면 정리 쪽에서 방을 보지 못했을 수 있으므로 여기서 내보냄
+                leaveRoom(roomId, client);
+            }
+        });
+        if (!queued) {
+            client.sendMessage(ServerMessage.JOIN_ROOM_RESPONSE + "|false|존재하지 않는 방입니다.");
+        }
     }
 
-    public synchronized void leaveRoom(String roomId, ClientHandler client) {
-        Set<ClientHandler> players = roomPlayers.get(roomId);
-        GameRoom room = rooms.get(roomId);
+    public void leaveRoom(String roomId, ClientHandler client) {
+        executeInRoom(roomId, () -> {
+            Set<ClientHandler> players = roomPlayers.get(roomId);
+            GameRoom room = rooms.get(roomId);
 
-        if (room == null || players == null) {
-            return;
-        }
+            // 퇴장 요청과 연결 종료가 겹치면 두 번 들어올 수 있으므로 이미 나간 클라이언트는 무시
+            if (room == null || players == null || !players.remove(client)) {
+                return;
+            }
 
-        boolean isHost = client.getUsername().equals(room.getHostName());
+            boolean isHost = client.getUsername().equals(room.getHostName());
 
-        players.remove(client);
-        room.removePlayer(client.getUsername());
-        client.setCurrentRoomId(null);
+            topics.unsubscribe(Topic.room(roomId), client);
+            room.removePlayer(client.getUsername());
+            client.clearCurrentRoomId(roomId);
 
-        if (players.isEmpty()) {
-            rooms.remove(roomId);
-            roomPlayers.remove(roomId);
-            controllers.remove(roomId);
-            broadcast(ServerMessage.ROOM_CLOSED + "|" + roomId + "|방이 닫혔습니다.");
-        } else if (isHost) {
-            ClientHandler newHost = players.iterator().next();
-            room.setHostName(newHost.getUsername());
+            if (players.isEmpty()) {
+                closeRoom(roomId);
+                publish(Topic.LOBBY, MessageBuilder.start(ServerMessage.ROOM_CLOSED).add(roomId).add("방이 닫혔습니다.").build());
+            } else if (isHost) {
+                ClientHandler newHost = players.iterator().next();
+                room.setHostName(newHost.getUsername());
 
-            broadcastToRoom(roomId, ServerMessage.HOST_LEFT + "|" + roomId + "|이전 방장이 퇴장했습니다.");
-            broadcastToRoom(roomId, ServerMessage.NEW_HOST + "|" + roomId + "|" + newHost.getUsername());
+                broadcastToRoom(roomId, MessageBuilder.start(ServerMessage.HOST_LEFT).add(roomId).add("이전 방장이 퇴장했습니다.").build());
+                broadcastToRoom(roomId, MessageBuilder.start(ServerMessage.NEW_HOST).add(roomId).add(newHost.getUsername()).build());
 
-            String playerList = String.join(";", room.getPlayers());
-            broadcastToRoom(roomId, ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
-        } else {
-            String playerList = String.join(";", room.getPlayers());
-            broadcastToRoom(roomId, ServerMessage.PLAYER_UPDATE + "|" + roomId + "|" + room.getCurrentPlayers() + "|" + playerList);
+                broadcastToRoom(roomId, playerUpdateMessage(roomId, room));
+            } else {
+                broadcastToRoom(roomId, playerUpdateMessage(roomId, room));
+            }
+
+            if (players.isEmpty()) {
+                roomDirectory.roomRemoved(roomId);
+            } else {
+                roomDirectory.roomChanged(room);
+            }
+            logger.info(client.getUsername() + "님이 " + roomId + " 방에서 퇴장했습니다.");
+        });
+    }
+
+    // 방의 mailbox 안에서 호출, 이후 들어오는 작업은 받지 않음
+    private void closeRoom(String roomId) {
+        RoomMailbox mailbox = mailboxes.remove(roomId);
+        if (mailbox != null) {
+            mailbox.close();
+        }
+        rooms.remove(roomId);
+        roomPlayers.remove(roomId);
+        ServerGameController controller = controllers.remove(roomId);
+        if (controller != null) {
+            controller.stopGame();
         }
+        topics.removeTopic(Topic.room(roomId));
+    }
 
-        broadcastRoomList();
-        logger.info(client.getUsername() + "님이 " + roomId + " 방에서 퇴장했습니다.");
+    /*
+     * 게임 중이 아닌 방에 플레이어 명령이 한동안 없으면 방을 닫음
+     * 명령마다 타이머를 다시 걸지 않고, 만료됐을 때 마지막 명령 시각을 보고 남은 시간만큼 다시 걺
+     */
+    private void scheduleIdleCheck(RoomMailbox mailbox, long delayMillis) {
+        if (roomIdleTimeoutMillis <= 0) {
+            return;
+        }
+        timer.schedule(() -> mailbox.execute(() -> checkIdle(mailbox)), delayMillis, TimeUnit.MILLISECONDS);
     }
 
-    public void handleChat(String roomId, ClientHandler sender, String message) {
-        if (rooms.containsKey(roomId)) {
-            broadcastToRoom(roomId, ServerMessage.CHAT + "|" + sender.getUsername() + "|" + message);
+    private void checkIdle(RoomMailbox mailbox) {
+        String roomId = mailbox.getRoomId();
+        GameRoom room = rooms.get(roomId);
+        if (room == null) {
+            return;
         }
+        long idle = mailbox.getIdleMillis();
+        ServerGameController controller = controllers.get(roomId);
+        if ((controller != null && controller.isRunning()) || idle < roomIdleTimeoutMillis) {
+            scheduleIdleCheck(mailbox, Math.max(1, roomIdleTimeoutMillis - idle));
+            return;
+        }
+
+        String message = MessageBuilder.start(ServerMessage.ROOM_CLOSED).add(roomId).add("오랫동안 활동이 없어 방이 닫혔습니다.").build();
+        broadcastToRoom(roomId, message);
+        Set<ClientHandler> players = roomPlayers.get(roomId);
+        if (players != null) {
+            for (ClientHandler player : players) {
+                player.clearCurrentRoomId(roomId);
+            }
+        }
+        closeRoom(roomId);
+        publish(Topic.LOBBY, message);
+        roomDirectory.roomRemoved(roomId);
+        logger.info("유휴 방 종료: " + roomId);
+    }
+
+    public void handleChat(String roomId, ClientHandler sender, String message) {
+        executeInRoom(roomId, () ->
+                broadcastToRoom(roomId, MessageBuilder.start(ServerMessage.CHAT).add(sender.getUsername()).add(message).build()));
     }
 
     public void updateGameSettings(String roomId, String settingType, String newValue, ClientHandler updater) {
+        executeInRoom(roomId, () -> applyGameSettings(roomId, settingType, newValue, updater));
+    }
+
+    private void applyGameSettings(String roomId, String settingType, String newValue, ClientHandler updater) {
         GameRoom room = rooms.get(roomId);
         if (room == null || !updater.getUsername().equals(room.getHostName())) {
             return;
@@ -229,16 +464,22 @@ public class GameServer {
                 }
             }
 
-            broadcastToRoom(roomId, ServerMessage.SETTINGS_UPDATE + "|" + roomId + "|" +
-                    room.getGameMode().name() + "|" +
-                    room.getDifficulty().name());
-            broadcastRoomList();
+            broadcastToRoom(roomId, MessageBuilder.start(ServerMessage.SETTINGS_UPDATE).add(roomId)
+                    .add(room.getGameMode().name()).add(room.getDifficulty().name()).build());
+            roomDirectory.roomChanged(room);
         } catch (IllegalArgumentException e) {
-            updater.sendMessage(ServerMessage.ERROR + "|잘못된 설정값입니다: " + e.getMessage());
+            updater.sendMessage(MessageBuilder.start(ServerMessage.ERROR).field()
+                    .text("잘못된 설정값입니다: ").text(e.getMessage()).build());
         }
     }
 
     public void startGame(String roomId, ClientHandler starter) {
+        if (!executeInRoom(roomId, () -> startGameInRoom(roomId, starter))) {
+            starter.sendMessage(ServerMessage.ERROR + "|게임을 시작할 권한이 없습니다.");
+        }
+    }
+
+    private void startGameInRoom(String roomId, ClientHandler starter) {
         GameRoom room = rooms.get(roomId);
         if (room == null || !starter.getUsername().equals(room.getHostName())) {
             starter.sendMessage(ServerMessage.ERROR + "|게임을 시작할 권한이 없습니다.");
@@ -254,32 +495,43 @@ public class GameServer {
             room.setGameStarted(true);
             room.setInGame(true);
 
-            ServerGameController controller = new ServerGameController(this, room);
+            ServerGameController controller = new ServerGameController(this, room, mailboxes.get(roomId), tickService, timer);
             controllers.put(roomId, controller);
 
-            // 게임 시작 알림
-            broadcastToRoom(roomId, String.format("GAME_CONFIG|%s|%s|%s",
-                    room.getGameMode().name(),
-                    room.getDifficulty().name(),
-                    String.join(";", room.getPlayers())
-            ));
-            broadcastToRoom(roomId, ServerMessage.GAME_START);
+            // 게임 시작 알림 (시드 모드이면 단어 생성에 필요한 값도 함께 보냄)
+            MessageBuilder config = MessageBuilder.start(ServerMessage.GAME_CONFIG)
+                    .add(room.getGameMode().name())
+                    .add(room.getDifficulty().name())
+                    .addJoined(';', room.getPlayers());
+            controller.appendWordStreamConfig(config);
+            broadcastToRoom(roomId, config.build());
 
+            // 단어 스트림을 먼저 시작해야 GAME_START 에 시작 후 경과 시간을 담을 수 있음
             controller.startGame();
-            broadcastRoomList();
+            broadcastToRoom(roomId, controller.gameStartMessage());
+            roomDirectory.roomChanged(room);
             logger.info("게임 시작됨: 방 " + roomId);
         } catch (Exception e) {
             logger.severe("게임 시작 중 오류 발생: " + e.getMessage());
             room.setGameStarted(false);
             room.setInGame(false);
-            broadcastToRoom(roomId, ServerMessage.ERROR + "|게임 시작 실패: " + e.getMessage());
+            broadcastToRoom(roomId, MessageBuilder.start(ServerMessage.ERROR).field()
+                    .text("게임 시작 실패: ").text(e.getMessage()).build());
         }
     }
 
     /*
      * GAME_ACTION 메시지를 처리하는 메서드.
+     * 게임 상태는 방의 mailbox 안에서만 바뀌므로 컨트롤러 호출도 mailbox 에 넣음
      */
     public void handleGameAction(String roomId, ClientHandler player, String action, String... params) {
+        if (!executeInRoom(roomId, () -> applyGameAction(roomId, player, action, params))) {
+            logger.warning("유효하지 않은 게임 액션 시도 - 룸: " + roomId + ", 액션: " + action);
+            player.sendMessage(ServerMessage.ERROR + "|유효하지 않은 게임 액션입니다.");
+        }
+    }
+
+    private void applyGameAction(String roomId, ClientHandler player, String action, String... params) {
         GameRoom room = rooms.get(roomId);
         if (room == null || !room.isInGame()) {
             logger.warning("유효하지 않은 게임 액션 시도 - 룸: " + roomId + ", 액션: " + action);
@@ -304,14 +556,10 @@ public class GameServer {
                         player.sendMessage(ServerMessage.ERROR + "|단어가 입력되지 않았습니다.");
                     }
                 }
-                case ServerMessage.WORD_MISSED -> {
-                    if (params.length > 0) {
-                        controller.handleWordMissed(params[0], player);
-                    } else {
-                        logger.warning("놓친 단어 정보 없음 - 플레이어: " + player.getUsername());
-                        player.sendMessage(ServerMessage.ERROR + "|놓친 단어 정보가 없습니다.");
-                    }
-                }
+                case ServerMessage.WORD_MISSED ->
+                    // 놓친 단어는 서버가 판단함, 예전 클라이언트가 보내는 알림은 무시
+                    logger.fine("클라이언트 WORD_MISSED 무시 - 플레이어: " + player.getUsername());
+                case ClientCommand.WORD_STREAM_FALLBACK -> controller.handleWordStreamFallback(player);
                 case "PLAYER_LEAVE_GAME" -> {
                     logger.info("플레이어 게임 퇴장 - 플레이어: " + player.getUsername() + ", 룸: " + roomId);
                     controller.handlePlayerLeaveGame(player);
@@ -342,20 +590,20 @@ public class GameServer {
                 switch (leaderboardAction) {
                     case "GET_TOP" -> {
                         List<LeaderboardEntry> topEntries = leaderboardManager.getTopEntries(mode, difficulty);
-                        StringBuilder response = new StringBuilder(ServerMessage.LEADERBOARD_DATA + "|TOP");
+                        MessageBuilder response = MessageBuilder.start(ServerMessage.LEADERBOARD_DATA).add("TOP");
                         for (LeaderboardEntry entry : topEntries) {
-                            response.append("|").append(entry.toFileString());
+                            response.add(entry.toFileString());
                         }
-                        player.sendMessage(response.toString());
+                        player.sendMessage(response.build());
                         logger.info("상위 기록 전송 - 모드: " + mode + ", 난이도: " + difficulty);
                     }
                     case "GET_MY_RECORDS" -> {
                         List<LeaderboardEntry> userEntries = leaderboardManager.getUserEntries(player.getUsername());
-                        StringBuilder response = new StringBuilder(ServerMessage.LEADERBOARD_DATA + "|USER");
+                        MessageBuilder response = MessageBuilder.start(ServerMessage.LEADERBOARD_DATA).add("USER");
                         for (LeaderboardEntry entry : userEntries) {
-                            response.append("|").append(entry.toFileString());
+                            response.add(entry.toFileString());
                         }
-                        player.sendMessage(response.toString());
+                        player.sendMessage(response.build());
                         logger.info("사용자 기록 전송 - 사용자: " + player.getUsername());
                     }
                     default -> {
@@ -376,8 +624,10 @@ public class GameServer {
         }
     }
 
-    public synchronized void removeClient(ClientHandler client) {
+    // 방에서 나가는 처리는 방의 mailbox 에서 하므로 다른 방이나 로비를 막지 않음
+    public void removeClient(ClientHandler client) {
         clients.remove(client);
+        topics.unsubscribeAll(client);
         String roomId = client.getCurrentRoomId();
         if (roomId != null) {
             leaveRoom(roomId, client);
@@ -385,46 +635,107 @@ public class GameServer {
         broadcastUserCount();
     }
 
+    // 메시지는 한 번만 인코딩하고 방 안의 모든 연결이 같은 바이트를 공유함
     public void broadcastToRoom(String roomId, String message) {
-        Set<ClientHandler> players = roomPlayers.get(roomId);
-        if (players != null) {
-            synchronized (players) {
-                for (ClientHandler player : players) {
-                    player.sendMessage(message);
-                }
-            }
-        }
+        publish(Topic.room(roomId), message);
     }
 
+    // 주제를 구독한 클라이언트에게만 보냄
+    public void publish(String topic, String message) {
+        topics.publish(topic, OutboundMessage.of(message));
+    }
+
+    // 접속한 모든 클라이언트에게 보냄 (주제와 상관없는 서버 공지 등)
     public void broadcast(String message) {
-        synchronized (clients) {
-            for (ClientHandler client : clients) {
-                client.sendMessage(message);
-            }
+        OutboundMessage outbound = OutboundMessage.of(message);
+        for (ClientHandler client : clients) {
+            client.sendMessage(outbound);
         }
     }
 
-    public void broadcastRoomList() {
-        StringBuilder response = new StringBuilder("ROOM_LIST_RESPONSE");
-        for (GameRoom room : rooms.values()) {
-            response.append("|").append(formatRoomInfo(room));
+    /**
+     * 요청한 클라이언트에게만 방 목록을 보냅니다.
+     * 변경분을 받는 클라이언트는 알고 있는 버전 이후의 변경분(또는 ROOM_SNAPSHOT, ROOM_LIST_CURRENT),
+     * 기존 클라이언트는 ROOM_LIST_RESPONSE 를 받습니다.
+     *
+     * @param knownVersion 클라이언트가 마지막으로 반영한 버전, 없으면 -1
+     */
+    public void sendRoomList(ClientHandler client, int knownVersion) {
+        if (client.isRoomDeltaEnabled()) {
+            roomDirectory.sendList(knownVersion, client::sendMessageNow);
+        } else {
+            client.sendMessage(roomDirectory.legacyList());
         }
-        broadcast(response.toString());
     }
 
+    // 방 목록 변경분을 로비에 알림, 변경분을 모르는 클라이언트에게는 전체 목록을 보냄
+    // RoomDirectory 의 락 안에서 호출됨 -> WriteBatch 를 거치지 않고 바로 대기열에 넣어 버전 순서를 지킴
+    private void publishRoomChange(OutboundMessage delta) {
+        OutboundMessage legacyList = null;
+        for (ClientHandler client : topics.subscribers(Topic.LOBBY)) {
+            if (client.isRoomDeltaEnabled()) {
+                client.sendMessageNow(delta);
+            } else {
+                if (legacyList == null) {
+                    legacyList = roomDirectory.legacyList();
+                }
+                client.sendMessageNow(legacyList);
+            }
+        }
+    }
+
+    // 접속/종료가 몰려도 global-stats 구독자에게는 window 마다 최대 한 번, 값이 바뀐 경우에만 보냄
     public void broadcastUserCount() {
-        broadcast(ServerMessage.USERS + "|" + clients.size());
+        presence.publish(Topic.GLOBAL_STATS, this::userCountMessage);
+    }
+
+    // 요청한 클라이언트에게만 접속자 수를 보냄
+    public void sendUserCount(ClientHandler client) {
+        client.sendMessage(userCountMessage());
+    }
+
+    private String userCountMessage() {
+        return MessageBuilder.start(ServerMessage.USERS).add(clients.size()).build();
     }
 
-    private String formatRoomInfo(GameRoom room) {
-        return String.format("%s,%s,%d,%d,%s,%s,%s",
-                room.getRoomId(),
-                room.getRoomName(),
-                room.getCurrentPlayers(),
-                room.getMaxPlayers(),
-                room.getGameMode().getDisplayName(),
-                room.getDifficulty().getDisplayName(),
-                room.getHostName());
+    // 접속 직후에는 기존 클라이언트와 같이 lobby, global-stats 를 구독한 상태로 시작함
+    private void addClient(ClientHandler client) {
+        clients.add(client);
+        topics.subscribe(Topic.LOBBY, client);
+        topics.subscribe(Topic.GLOBAL_STATS, client);
+    }
+
+    /**
+     * 클라이언트의 요청으로 주제를 구독합니다. 방 주제는 입장/퇴장으로만 바뀌므로 여기서는 받지 않습니다.
+     * global-stats 는 다음 변경까지 기다리지 않도록 현재 접속자 수를 바로 보냅니다.
+     * 방 목록은 클라이언트가 ROOM_LIST 로 따로 요청합니다.
+     *
+     * @return 구독했으면 true
+     */
+    public boolean subscribe(ClientHandler client, String topic) {
+        if (!Topic.isClientSubscribable(topic)) {
+            return false;
+        }
+        topics.subscribe(topic, client);
+        if (Topic.GLOBAL_STATS.equals(topic)) {
+            sendUserCount(client);
+        }
+        return true;
+    }
+
+    public void unsubscribe(ClientHandler client, String topic) {
+        if (Topic.isClientSubscribable(topic)) {
+            topics.unsubscribe(topic, client);
+        }
+    }
+
+    // PLAYER_UPDATE|방ID|인원|이름;이름...
+    private String playerUpdateMessage(String roomId, GameRoom room) {
+        return MessageBuilder.start(ServerMessage.PLAYER_UPDATE)
+                .add(roomId)
+                .add(room.getCurrentPlayers())
+                .addJoined(';', room.getPlayers())
+                .build();
     }
 
     public void shutdown() {
@@ -433,17 +744,38 @@ public class GameServer {
             if (serverSocket != null && !serverSocket.isClosed()) {
                 serverSocket.close();
             }
+            if (serverChannel != null && serverChannel.isOpen()) {
+                serverChannel.close();
+            }
         } catch (IOException e) {
             logger.severe("서버 소켓 종료 중 오류: " + e.getMessage());
         }
 
-        synchronized (clients) {
-            for (ClientHandler client : clients) {
-                client.shutdown();
-            }
-            clients.clear();
+        for (ClientHandler client : clients) {
+            client.shutdown();
+        }
+        clients.clear();
+
+        if (eventLoopGroup != null) {
+            eventLoopGroup.shutdown();
+        }
+        if (statsReporter != null) {
+            statsReporter.shutdownNow();
+        }
+        presenceScheduler.shutdownNow();
+
+        for (RoomMailbox mailbox : mailboxes.values()) {
+            mailbox.close();
+        }
+        for (ServerGameController controller : controllers.values()) {
+            controller.stopGame();
         }
+        roomExecutor.shutdownNow();
+        tickService.shutdown();
+        timer.shutdown();
+        WordCorpus.getInstance().shutdown();
 
+        mailboxes.clear();
         rooms.clear();
         roomPlayers.clear();
         controllers.clear();
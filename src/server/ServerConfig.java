@@ -0,0 +1,99 @@
+/*
+ * server.ServerConfig.java
+ * 서버 설정값을 정의하는 클래스
+ * config/server.properties 를 읽어오고, 같은 키의 시스템 프로퍼티(-Dkey=value)가 있으면 그 값을 우선 사용함
+ */
+
+package server;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Properties;
+import java.util.logging.Logger;
+
+public class ServerConfig {
+    private static final Logger logger = Logger.getLogger(ServerConfig.class.getName());
+    private static final Properties properties = new Properties();
+
+    // 연결 처리 방식 (THREAD, VIRTUAL, NIO)
+    public static final String CONNECTION_MODE = "server.connection.mode";
+    // NIO 모드에서 사용할 I/O 루프 개수, 기본값은 코어 수
+    public static final String IO_THREADS = "server.io.threads";
+    // 방 작업(mailbox)을 실행할 스레드 개수, 기본값은 코어 수
+    public static final String ROOM_THREADS = "server.room.threads";
+    // 게임 틱 스케줄러의 샤드(스레드) 개수, 기본값은 코어 수
+    public static final String TICK_SHARDS = "server.tick.shards";
+    // 효과 만료, 방 타임아웃 등에 쓰는 타이머의 tick 간격 (ms)
+    public static final String TIMER_TICK = "server.timer.tickMs";
+    // 게임 중이 아닌 방에 이 시간(초) 동안 플레이어 명령이 없으면 방을 닫음, 0 이면 닫지 않음
+    public static final String ROOM_IDLE_TIMEOUT = "server.room.idleTimeoutSec";
+    // 단어를 WORD_SPAWNED 로 보내는 대신 GAME_CONFIG 의 시드로 클라이언트가 직접 만들게 할지 여부 (기본값 false)
+    public static final String SEEDED_WORDS = "server.words.seeded";
+    // 서버 시작 시와 단어 파일이 바뀔 때 .pack 보다 새로운 words_<모드>.txt 를 바이너리 단어 파일로 다시 변환할지 여부 (기본값 false)
+    public static final String IMPORT_WORDS = "server.words.import";
+
+    // 연결별 송신 대기열 설정 (바이트 단위)
+    public static final String OUTBOUND_HIGH_WATERMARK = "server.outbound.highWatermark";
+    public static final String OUTBOUND_LOW_WATERMARK = "server.outbound.lowWatermark";
+    // 느린 클라이언트 처리 정책 (DROP, DISCONNECT)
+    public static final String OUTBOUND_POLICY = "server.outbound.policy";
+    // DISCONNECT 정책에서 high watermark 를 넘은 상태로 버틸 수 있는 시간 (ms)
+    public static final String OUTBOUND_STALL_TIMEOUT = "server.outbound.stallTimeoutMs";
+    // 명령 하나/스케줄러 틱 하나 동안 보낸 메시지를 모아 한 번에 쓸지 여부 (기본값 true)
+    public static final String WRITE_COALESCE = "server.write.coalesce";
+    // LOGIN 때 클라이언트가 요청하면 바이너리 전송 형식을 허용할지 여부 (기본값 true)
+    public static final String BINARY_PROTOCOL = "server.protocol.binary";
+    // 송신 통계를 로그로 남기는 주기 (초), 0 이면 남기지 않음
+    public static final String STATS_INTERVAL = "server.stats.intervalSec";
+    // 접속자 수 같은 상태 갱신을 주제별로 모아 보내는 최소 간격 (ms), 0 이면 모으지 않음
+    public static final String PRESENCE_COALESCE = "server.presence.coalesceMs";
+
+    static {
+        loadProperties();
+    }
+
+    private static void loadProperties() {
+        try (InputStream input = ServerConfig.class.getClassLoader()
+                .getResourceAsStream("config/server.properties")) {
+            if (input != null) {
+                properties.load(input);
+            }
+        } catch (IOException e) {
+            logger.warning("서버 설정 파일을 불러오는데 실패했습니다: " + e.getMessage());
+        }
+    }
+
+    public static String getProperty(String key, String defaultValue) {
+        return System.getProperty(key, properties.getProperty(key, defaultValue));
+    }
+
+    public static boolean isBinaryProtocolEnabled() {
+        return Boolean.parseBoolean(getProperty(BINARY_PROTOCOL, "true"));
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("잘못된 설정값 (" + key + "): " + value + ", 기본값 " + defaultValue + " 사용");
+            return defaultValue;
+        }
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = getProperty(key, null);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            logger.warning("잘못된 설정값 (" + key + "): " + value + ", 기본값 " + defaultValue + " 사용");
+            return defaultValue;
+        }
+    }
+}
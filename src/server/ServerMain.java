@@ -5,6 +5,8 @@ public class ServerMain {
 
     public static void main(String[] args) {
         int port = 12345; // 기본 포트
+        ConnectionMode mode = ConnectionMode.fromString(
+                ServerConfig.getProperty(ServerConfig.CONNECTION_MODE, ConnectionMode.THREAD.name()));
 
         // 커맨드 라인 인자로 포트 번호를 받을 수 있도록 함
         if (args.length > 0) {
@@ -19,6 +21,15 @@ public class ServerMain {
             }
         }
 
+        // 두 번째 인자로 연결 처리 방식(THREAD, VIRTUAL, NIO)을 지정할 수 있음
+        if (args.length > 1) {
+            try {
+                mode = ConnectionMode.fromString(args[1]);
+            } catch (IllegalArgumentException e) {
+                System.err.println("잘못된 연결 모드입니다. 기본 모드(" + mode + ")를 사용합니다.");
+            }
+        }
+
         // 서버 종료 훅 등록
         Runtime.getRuntime().addShutdownHook(new Thread(() -> {
             System.out.println("서버를 종료합니다...");
@@ -28,9 +39,10 @@ public class ServerMain {
         }));
 
         try {
-            server = new GameServer(port);
+            server = new GameServer(port, mode);
             System.out.println("타자 게임 서버를 시작합니다...");
             System.out.println("포트: " + port);
+            System.out.println("연결 모드: " + mode);
             System.out.println("서버를 종료하려면 Ctrl+C를 누르세요.");
             server.start();
         } catch (Exception e) {
@@ -0,0 +1,64 @@
+/*
+ * server.TopicRegistry.java
+ * 주제(topic)별 구독자 목록
+ * 브로드캐스트는 전체 클라이언트 대신 주제의 구독자에게만 보냄
+ * (예: 게임 중인 플레이어는 lobby 를 구독하지 않으므로 방 목록 변경을 받지 않음)
+ * 주제 이름은 game.protocol.Topic 참고
+ */
+
+package server;
+
+import server.network.OutboundMessage;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class TopicRegistry {
+    private final Map<String, Set<ClientHandler>> subscribers = new ConcurrentHashMap<>();
+
+    public void subscribe(String topic, ClientHandler client) {
+        // 빈 주제를 지우는 unsubscribe 와 겹쳐도 구독이 사라지지 않도록 compute 안에서 추가함
+        subscribers.compute(topic, (t, set) -> {
+            if (set == null) {
+                set = ConcurrentHashMap.newKeySet();
+            }
+            set.add(client);
+            return set;
+        });
+    }
+
+    public void unsubscribe(String topic, ClientHandler client) {
+        subscribers.computeIfPresent(topic, (t, set) -> {
+            set.remove(client);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    // 연결이 끊긴 클라이언트를 모든 주제에서 뺌
+    public void unsubscribeAll(ClientHandler client) {
+        for (String topic : subscribers.keySet()) {
+            unsubscribe(topic, client);
+        }
+    }
+
+    public void removeTopic(String topic) {
+        subscribers.remove(topic);
+    }
+
+    public Set<ClientHandler> subscribers(String topic) {
+        Set<ClientHandler> set = subscribers.get(topic);
+        return set != null ? Collections.unmodifiableSet(set) : Collections.emptySet();
+    }
+
+    // 구독자에게 메시지를 보냄, 인코딩은 한 번만 함
+    public void publish(String topic, OutboundMessage message) {
+        Set<ClientHandler> set = subscribers.get(topic);
+        if (set != null) {
+            for (ClientHandler client : set) {
+                client.sendMessage(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * server.game.ActiveWordSet.java
+ * 화면에 떠 있는 단어 목록 (생성 순서 유지 + 단어 번호로 바로 찾기)
+ * - 전체 단어는 생성 순서대로 이중 연결 리스트에 들어 있음 -> 가장 오래된 단어(먼저 바닥에 닿는 단어)를 O(1) 로 꺼냄
+ * - 단어 번호(WordPack 안의 번호)별로 같은 단어들을 생성 순서대로 묶어 둠 -> 입력한 단어와 같은 단어 중 가장 오래된 것을 O(1) 로 꺼냄
+ *   번호 -> 묶음은 int 키 open addressing 표라서 찾을 때 박싱이 없음
+ * 예전에는 리스트를 stream().filter().findFirst() 로 훑고 remove 로 한 번 더 훑었음
+ * 방의 mailbox 안에서만 접근하므로 동기화하지 않음
+ */
+
+package server.game;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public class ActiveWordSet {
+    private static final int INITIAL_CAPACITY = 16;
+
+    // 단어 번호 + 1 (0 은 빈 칸), 같은 칸의 firsts/lasts 가 그 단어의 가장 오래된/최근 노드
+    private int[] keys = new int[INITIAL_CAPACITY];
+    private Node[] firsts = new Node[INITIAL_CAPACITY];
+    private Node[] lasts = new Node[INITIAL_CAPACITY];
+    private int keyCount;
+
+    private Node head;
+    private Node tail;
+    private int size;
+
+    public void add(SpawnedWord word) {
+        Node node = new Node(word);
+        if (tail == null) {
+            head = tail = node;
+        } else {
+            tail.next = node;
+            node.prev = tail;
+            tail = node;
+        }
+        size++;
+
+        int slot = slotOf(word.getWordIndex());
+        if (slot >= 0) {
+            lasts[slot].nextSame = node;
+            lasts[slot] = node;
+            return;
+        }
+        if ((keyCount + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        slot = emptySlotFor(word.getWordIndex());
+        keys[slot] = word.getWordIndex() + 1;
+        firsts[slot] = lasts[slot] = node;
+        keyCount++;
+    }
+
+    /**
+     * 번호가 같은 단어 중 가장 먼저 생성된 단어를 꺼냅니다.
+     *
+     * @return 꺼낸 단어, 없으면 null
+     */
+    public SpawnedWord removeOldest(int wordIndex) {
+        int slot = slotOf(wordIndex);
+        if (slot < 0) {
+            return null;
+        }
+        Node node = firsts[slot];
+        if (node.nextSame != null) {
+            firsts[slot] = node.nextSame;
+            node.nextSame = null;
+        } else {
+            deleteSlot(slot);
+        }
+        unlink(node);
+        return node.word;
+    }
+
+    // 전체에서 가장 먼저 생성된 단어, 없으면 null
+    public SpawnedWord peekOldest() {
+        return head != null ? head.word : null;
+    }
+
+    // 전체에서 가장 먼저 생성된 단어를 꺼냄, 없으면 null
+    public SpawnedWord pollOldest() {
+        if (head == null) {
+            return null;
+        }
+        // 번호별 묶음도 생성 순서이므로 가장 오래된 단어는 자기 묶음의 맨 앞에 있음
+        return removeOldest(head.word.getWordIndex());
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, 0);
+        Arrays.fill(firsts, null);
+        Arrays.fill(lasts, null);
+        keyCount = 0;
+        head = tail = null;
+        size = 0;
+    }
+
+    // 생성 순서대로 복사한 목록
+    public List<SpawnedWord> toList() {
+        List<SpawnedWord> words = new ArrayList<>(size);
+        for (Node node = head; node != null; node = node.next) {
+            words.add(node.word);
+        }
+        return words;
+    }
+
+    private void unlink(Node node) {
+        if (node.prev != null) {
+            node.prev.next = node.next;
+        } else {
+            head = node.next;
+        }
+        if (node.next != null) {
+            node.next.prev = node.prev;
+        } else {
+            tail = node.prev;
+        }
+        node.prev = null;
+        node.next = null;
+        size--;
+    }
+
+    /*
+     * 단어 번호 -> 묶음 표 (선형 탐사)
+     */
+
+    private int slotOf(int wordIndex) {
+        int mask = keys.length - 1;
+        for (int slot = hash(wordIndex) & mask; ; slot = (slot + 1) & mask) {
+            int key = keys[slot];
+            if (key == 0) {
+                return -1;
+            }
+            if (key == wordIndex + 1) {
+                return slot;
+            }
+        }
+    }
+
+    private int emptySlotFor(int wordIndex) {
+        int mask = keys.length - 1;
+        int slot = hash(wordIndex) & mask;
+        while (keys[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    // 빈 칸을 만들고, 뒤에 이어진 칸 중 원래 자리가 빈 칸 앞쪽인 것을 당겨 옴 (삭제 표시 없이 탐사가 끊기지 않게)
+    private void deleteSlot(int slot) {
+        int mask = keys.length - 1;
+        int hole = slot;
+        for (int i = (hole + 1) & mask; keys[i] != 0; i = (i + 1) & mask) {
+            int home = hash(keys[i] - 1) & mask;
+            if (((i - home) & mask) >= ((i - hole) & mask)) {
+                keys[hole] = keys[i];
+                firsts[hole] = firsts[i];
+                lasts[hole] = lasts[i];
+                hole = i;
+            }
+        }
+        keys[hole] = 0;
+        firsts[hole] = null;
+        lasts[hole] = null;
+        keyCount--;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Node[] oldFirsts = firsts;
+        Node[] oldLasts = lasts;
+        keys = new int[capacity];
+        firsts = new Node[capacity];
+        lasts = new Node[capacity];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int slot = emptySlotFor(oldKeys[i] - 1);
+                keys[slot] = oldKeys[i];
+                firsts[slot] = oldFirsts[i];
+                lasts[slot] = oldLasts[i];
+            }
+        }
+    }
+
+    private static int hash(int wordIndex) {
+        int h = wordIndex * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Node {
+        private final SpawnedWord word;
+        private Node prev;
+        private Node next;
+        // 번호가 같은 다음 단어
+        private Node nextSame;
+
+        Node(SpawnedWord word) {
+            this.word = word;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * server.game.ActiveWordSetBenchmark.java
+ * 입력한 단어를 화면의 단어 목록에서 찾아 빼는 경로의 예전/현재 비교
+ * - 예전: Collections.synchronizedList 를 stream().filter().findFirst() 로 훑고 remove 로 한 번 더 훑음
+ * - 현재: WordPack.indexOf 로 단어 번호를 찾고 ActiveWordSet.removeOldest 로 뺌
+ * 한 번의 연산 = 떠 있는 단어 하나를 입력해서 맞추고, 새 단어 하나를 생성해 넣음 (떠 있는 단어 수는 그대로)
+ * 두 경로는 같은 시드로 같은 단어를 입력하고 생성함
+ *
+ * 실행: java server.game.ActiveWordSetBenchmark [연산 횟수]
+ */
+
+package server.game;
+
+import game.model.Word;
+import game.model.WordPack;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+public final class ActiveWordSetBenchmark {
+    private static final int[] ACTIVE_SIZES = {20, 200, 2000};
+    private static final int DEFAULT_OPERATIONS = 1_000_000;
+    private static final int PACK_SIZE = 5000;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final long SEED = 42;
+
+    private ActiveWordSetBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_OPERATIONS;
+        List<String> words = new ArrayList<>(PACK_SIZE);
+        for (int i = 0; i < PACK_SIZE; i++) {
+            words.add("word" + Integer.toString(i, 36));
+        }
+        WordPack pack = new WordPack(words);
+
+        System.out.println("연산 " + operations + "회 (맞추기 + 새 단어 생성), 단위 ns/연산");
+        System.out.printf("%8s %14s %14s%n", "단어 수", "synchronizedList", "ActiveWordSet");
+        for (int active : ACTIVE_SIZES) {
+            // 측정 결과를 쓰지 않으면 JIT 이 계산을 지울 수 있어 합계를 출력에 섞음
+            long check = 0;
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                check += runListPath(pack, active, operations / 10);
+                check += runIndexedPath(pack, active, operations / 10);
+            }
+            long start = System.nanoTime();
+            check += runListPath(pack, active, operations);
+            double listNanos = (double) (System.nanoTime() - start) / operations;
+            start = System.nanoTime();
+            check += runIndexedPath(pack, active, operations);
+            double indexedNanos = (double) (System.nanoTime() - start) / operations;
+            System.out.printf("%8d %14.1f %14.1f   (%d)%n", active, listNanos, indexedNanos, check & 0xFF);
+        }
+    }
+
+    // 예전 ServerGameState: 동기화 리스트를 단어 텍스트로 훑어서 찾음
+    private static long runListPath(WordPack pack, int active, int operations) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<Word> activeWords = Collections.synchronizedList(new ArrayList<>());
+        int[] present = new int[active];
+        for (int i = 0; i < active; i++) {
+            present[i] = random.nextInt(pack.size());
+            activeWords.add(new Word(pack.get(present[i]), 0, 0));
+        }
+
+        long matched = 0;
+        for (int op = 0; op < operations; op++) {
+            int slot = random.nextInt(active);
+            String typedWord = pack.get(present[slot]);
+            Optional<Word> word = activeWords.stream()
+                    .filter(w -> w.getText().equals(typedWord))
+                    .findFirst();
+            if (word.isPresent()) {
+                activeWords.remove(word.get());
+                matched += word.get().getText().length();
+            }
+
+            present[slot] = random.nextInt(pack.size());
+            activeWords.add(new Word(pack.get(present[slot]), 0, 0));
+        }
+        return matched;
+    }
+
+    // 현재 ServerGameState: 단어 목록의 번호로 텍스트별 묶음에서 바로 찾음
+    private static long runIndexedPath(WordPack pack, int active, int operations) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ActiveWordSet activeWords = new ActiveWordSet();
+        int[] present = new int[active];
+        int nextId = 0;
+        for (int i = 0; i < active; i++) {
+            present[i] = random.nextInt(pack.size());
+            activeWords.add(spawn(pack, nextId++, present[i]));
+        }
+
+        long matched = 0;
+        for (int op = 0; op < operations; op++) {
+            int slot = random.nextInt(active);
+            String typedWord = pack.get(present[slot]);
+            int wordIndex = pack.indexOf(typedWord);
+            SpawnedWord word = wordIndex >= 0 ? activeWords.removeOldest(wordIndex) : null;
+            if (word != null) {
+                matched += word.getLength();
+            }
+
+            present[slot] = random.nextInt(pack.size());
+            activeWords.add(spawn(pack, nextId++, present[slot]));
+        }
+        return matched;
+    }
+
+    private static SpawnedWord spawn(WordPack pack, int id, int wordIndex) {
+        return new SpawnedWord(id, wordIndex, pack.length(wordIndex), 0, null, 0);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * server.game.GameTickService.java
+ * 모든 게임이 함께 쓰는 틱 스케줄러
+ * - 코어 수만큼의 샤드(스케줄러 스레드 하나씩)를 서버 시작 시 한 번만 만들고, 방은 방 ID 로 한 샤드에 고정됨
+ *   -> 게임을 시작해도 스레드를 만들지 않음 (예전에는 게임마다 스레드 2개짜리 풀을 만들었음)
+ * - 틱 작업은 방의 mailbox 에 작업을 넣기만 하므로 샤드 스레드는 오래 잡히지 않음
+ * - 방 단위로 예약한 틱을 한 번에 취소할 수 있음 (cancelRoom)
+ * - 틱이 예정 시각보다 늦게 실행된 정도(스케줄링 지연)를 모아 report 로 알림
+ */
+
+package server.game;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class GameTickService {
+    private final ScheduledThreadPoolExecutor[] shards;
+    // 방ID -> 그 방에 예약된 틱 (방 단위 취소용)
+    private final Map<String, List<ScheduledFuture<?>>> roomTasks = new ConcurrentHashMap<>();
+
+    private final LongAdder ticks = new LongAdder();
+    private final LongAdder totalLagNanos = new LongAdder();
+    // report 사이의 최대 지연, report 할 때 초기화함
+    private final LongAccumulator maxLagNanos = new LongAccumulator(Math::max, 0);
+
+    public GameTickService(int shardCount) {
+        shards = new ScheduledThreadPoolExecutor[Math.max(1, shardCount)];
+        for (int i = 0; i < shards.length; i++) {
+            ScheduledThreadPoolExecutor shard = new ScheduledThreadPoolExecutor(1,
+                    Thread.ofPlatform().name("game-tick-" + i).daemon(true).factory());
+            // 취소한 틱이 샤드 대기열에 남지 않도록 바로 뺌
+            shard.setRemoveOnCancelPolicy(true);
+            shards[i] = shard;
+        }
+    }
+
+    public int size() {
+        return shards.length;
+    }
+
+    /**
+     * 방의 틱을 일정한 간격으로 예약합니다. 같은 방의 틱은 항상 같은 샤드에서 실행됩니다.
+     *
+     * @param roomId 틱을 예약할 방
+     * @param tick 틱마다 실행할 작업, 방의 mailbox 에 작업을 넣는 정도로 짧아야 함
+     */
+    public ScheduledFuture<?> scheduleAtFixedRate(String roomId, Runnable tick, long initialDelayMillis, long periodMillis) {
+        Tick measured = new Tick(tick, initialDelayMillis, periodMillis);
+        ScheduledFuture<?> future = shardOf(roomId).scheduleAtFixedRate(measured,
+                initialDelayMillis, periodMillis, TimeUnit.MILLISECONDS);
+        roomTasks.computeIfAbsent(roomId, id -> new CopyOnWriteArrayList<>()).add(future);
+        return future;
+    }
+
+    // 방에 예약된 틱을 모두 취소
+    public void cancelRoom(String roomId) {
+        List<ScheduledFuture<?>> tasks = roomTasks.remove(roomId);
+        if (tasks != null) {
+            for (ScheduledFuture<?> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    public String report() {
+        long count = ticks.sum();
+        long averageMicros = count > 0 ? TimeUnit.NANOSECONDS.toMicros(totalLagNanos.sum() / count) : 0;
+        long maxMicros = TimeUnit.NANOSECONDS.toMicros(maxLagNanos.getThenReset());
+        return "게임 틱 " + count + " (방 " + roomTasks.size() + ", 샤드 " + shards.length +
+                "), 평균 지연 " + averageMicros + "us, 최대 지연 " + maxMicros + "us";
+    }
+
+    public void shutdown() {
+        for (ScheduledThreadPoolExecutor shard : shards) {
+            shard.shutdownNow();
+        }
+        roomTasks.clear();
+    }
+
+    private ScheduledThreadPoolExecutor shardOf(String roomId) {
+        return shards[Math.floorMod(roomId.hashCode(), shards.length)];
+    }
+
+    // 예정 시각과 실제 실행 시각의 차이를 재는 틱
+    private class Tick implements Runnable {
+        private final Runnable task;
+        private final long periodNanos;
+        private long expectedAt;
+
+        Tick(Runnable task, long initialDelayMillis, long periodMillis) {
+            this.task = task;
+            this.periodNanos = TimeUnit.MILLISECONDS.toNanos(periodMillis);
+            this.expectedAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(initialDelayMillis);
+        }
+
+        @Override
+        public void run() {
+            long lag = Math.max(0, System.nanoTime() - expectedAt);
+            expectedAt += periodNanos;
+            ticks.increment();
+            totalLagNanos.add(lag);
+            maxLagNanos.accumulate(lag);
+            task.run();
+        }
+    }
+}
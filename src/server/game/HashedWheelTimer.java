@@ -0,0 +1,217 @@
+/*
+ * server.game.HashedWheelTimer.java
+ * 짧은 타이머를 아주 많이 다루기 위한 hashed wheel 타이머
+ * - 시간을 tick 단위로 나누고, 만료 tick 에 해당하는 칸(bucket)에 타이머를 넣음 -> 등록/취소 O(1)
+ *   wheel 한 바퀴보다 먼 타이머는 남은 바퀴 수(rounds)를 가지고 같은 칸에서 기다림
+ * - 스레드 하나가 tick 마다 현재 칸만 훑어 만료된 타이머를 실행함
+ * - 등록/취소는 어느 스레드에서나 할 수 있고, 대기열을 거쳐 타이머 스레드에서 칸에 반영됨
+ * - 만료 작업은 타이머 스레드에서 실행되므로 방의 mailbox 에 작업을 넣는 정도로 짧아야 함
+ * 정밀도는 tick 단위 (기본 50ms) 이며, 효과 만료나 방 타임아웃처럼 약간 늦어도 되는 시간에 사용함
+ */
+
+package server.game;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Logger;
+
+public class HashedWheelTimer {
+    private static final Logger logger = Logger.getLogger(HashedWheelTimer.class.getName());
+
+    private static final int ST_WAITING = 0;
+    private static final int ST_CANCELLED = 1;
+    private static final int ST_EXPIRED = 2;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startTime;
+    private volatile boolean running = true;
+    private long tick;
+
+    /**
+     * @param tickMillis tick 간격 (ms)
+     * @param wheelSize 칸 수, 2의 거듭제곱으로 올림
+     */
+    public HashedWheelTimer(String name, long tickMillis, int wheelSize) {
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, tickMillis));
+        int size = Integer.highestOneBit(Math.max(2, wheelSize) - 1) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+        this.startTime = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon(true).unstarted(this::run);
+        worker.start();
+    }
+
+    /**
+     * delay 뒤에 task 를 한 번 실행합니다.
+     *
+     * @return 취소할 때 쓰는 핸들
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long deadline = System.nanoTime() - startTime + unit.toNanos(Math.max(0, delay));
+        Timeout timeout = new Timeout(task, deadline);
+        if (running) {
+            pendingAdds.add(timeout);
+        } else {
+            timeout.state.set(ST_CANCELLED);
+        }
+        return timeout;
+    }
+
+    public void shutdown() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long deadline = tickNanos * (tick + 1);
+            long sleepNanos = deadline - (System.nanoTime() - startTime);
+            if (sleepNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                } catch (InterruptedException e) {
+                    if (!running) {
+                        break;
+                    }
+                }
+                continue;
+            }
+            processCancels();
+            transferAdds();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+    }
+
+    private void processCancels() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    // 대기열에 들어온 타이머를 만료 tick 의 칸에 넣음, 한 tick 에 너무 오래 걸리지 않도록 개수를 제한함
+    private void transferAdds() {
+        for (int i = 0; i < 100_000; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() == ST_CANCELLED) {
+                continue;
+            }
+            long expireTick = Math.max(timeout.deadline / tickNanos, tick);
+            timeout.rounds = (expireTick - tick) / wheel.length;
+            wheel[(int) (expireTick & mask)].add(timeout);
+        }
+    }
+
+    // 타이머 핸들, cancel 은 어느 스레드에서나 호출할 수 있음
+    public final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_WAITING);
+        // 아래 필드는 타이머 스레드에서만 다룸
+        private long rounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 타이머를 취소합니다.
+         *
+         * @return 취소했으면 true, 이미 실행됐거나 취소된 경우 false
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_WAITING, ST_CANCELLED)) {
+                return false;
+            }
+            pendingCancels.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_WAITING, ST_EXPIRED)) {
+                return;
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.severe("타이머 작업 처리 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    // 칸 하나, 이중 연결 리스트라서 중간의 타이머도 O(1) 로 뺄 수 있음
+    private static final class Bucket {
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.rounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.rounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            } else {
+                head = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            } else {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * server.game.RoomDirectory.java
+ * 로비에 공개되는 방 목록을 버전과 함께 관리하는 클래스
+ * - 방이 바뀔 때마다 버전을 1씩 올리고 변경분 메시지를 만듦
+ *     ROOM_ADDED|버전|방정보, ROOM_UPDATED|버전|방정보, ROOM_REMOVED|버전|방ID
+ * - 변경분은 버전을 정한 락 안에서 바로 송신 대기열에 넣음 (Publisher)
+ *   여러 스레드가 동시에 방을 바꿔도 클라이언트는 버전 순서대로 받음 -> 버전이 건너뛰는 것은 메시지를 버린 경우뿐
+ * - ROOM_LIST|알고있는버전 요청에는 최근 변경분(REPLAY_LIMIT 개)을 다시 보내고, 이미 최신이면 ROOM_LIST_CURRENT 만 보냄
+ *   그보다 오래된 버전이거나 버전이 없으면 전체 목록(ROOM_SNAPSHOT)을 보냄
+ * - 변경분을 모르는 기존 클라이언트용 ROOM_LIST_RESPONSE 도 같은 데이터로 만듦
+ * - 전체 목록 메시지는 버전이 바뀔 때까지 캐시하므로, 요청이 많아도 방을 다시 순회하지 않음
+ * 방 정보 형식: 방ID,방이름,인원,최대인원,모드,난이도,방장
+ */
+
+package server.game;
+
+import client.event.GameEvent.ServerMessage;
+import game.model.GameRoom;
+import game.protocol.MessageBuilder;
+import server.network.OutboundMessage;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public class RoomDirectory {
+    // 다시 보낼 수 있는 최근 변경분 개수, 더 뒤처진 클라이언트는 전체 목록을 받음
+    private static final int REPLAY_LIMIT = 64;
+
+    // 방ID -> 마지막으로 공개한 방 정보 (만들어진 순서 유지)
+    private final Map<String, String> published = new LinkedHashMap<>();
+    // 버전 v 의 변경분은 recent[v % REPLAY_LIMIT]
+    private final OutboundMessage[] recent = new OutboundMessage[REPLAY_LIMIT];
+    private final Publisher publisher;
+    private int version = 0;
+
+    // 버전이 바뀌면 비움
+    private OutboundMessage snapshot;
+    private OutboundMessage legacyList;
+
+    // 변경분을 로비에 보내는 쪽, RoomDirectory 의 락 안에서 호출되므로 막히지 않고 대기열에 넣기만 해야 함
+    public interface Publisher {
+        void publish(OutboundMessage delta);
+    }
+
+    public RoomDirectory(Publisher publisher) {
+        this.publisher = publisher;
+    }
+
+    /**
+     * 방이 새로 생겼거나 정보가 바뀌었음을 반영하고 변경분을 보냅니다.
+     * 공개된 정보가 그대로면 아무것도 보내지 않습니다.
+     *
+     * @param room 바뀐 방
+     */
+    public synchronized void roomChanged(GameRoom room) {
+        String info = roomInfo(room);
+        String previous = published.put(room.getRoomId(), info);
+        if (info.equals(previous)) {
+            return;
+        }
+        String type = previous == null ? ServerMessage.ROOM_ADDED : ServerMessage.ROOM_UPDATED;
+        int next = nextVersion();
+        publish(next, OutboundMessage.of(MessageBuilder.start(type).add(next).add(info).build()));
+    }
+
+    /**
+     * 방이 없어졌음을 반영하고 변경분을 보냅니다. 공개되지 않은 방이면 아무것도 보내지 않습니다.
+     */
+    public synchronized void roomRemoved(String roomId) {
+        if (published.remove(roomId) == null) {
+            return;
+        }
+        int next = nextVersion();
+        publish(next, OutboundMessage.of(MessageBuilder.start(ServerMessage.ROOM_REMOVED).add(next).add(roomId).build()));
+    }
+
+    /**
+     * 변경분을 받는 클라이언트의 ROOM_LIST 요청에 답합니다.
+     * 락 안에서 보내므로 응답과 이후의 변경분이 버전 순서대로 나갑니다.
+     *
+     * @param knownVersion 클라이언트가 마지막으로 반영한 버전, 없으면 음수
+     * @param sink 요청한 클라이언트에게 (WriteBatch 를 거치지 않고) 보내는 함수
+     */
+    public synchronized void sendList(int knownVersion, Consumer<OutboundMessage> sink) {
+        if (knownVersion == version) {
+            sink.accept(OutboundMessage.of(MessageBuilder.start(ServerMessage.ROOM_LIST_CURRENT).add(version).build()));
+            return;
+        }
+        if (knownVersion < 0 || knownVersion > version || version - knownVersion > REPLAY_LIMIT) {
+            sink.accept(snapshot());
+            return;
+        }
+        for (int v = knownVersion + 1; v <= version; v++) {
+            sink.accept(recent[v % REPLAY_LIMIT]);
+        }
+    }
+
+    // ROOM_SNAPSHOT|버전|방정보...
+    public synchronized OutboundMessage snapshot() {
+        if (snapshot == null) {
+            MessageBuilder message = MessageBuilder.start(ServerMessage.ROOM_SNAPSHOT).add(version);
+            for (String info : published.values()) {
+                message.add(info);
+            }
+            snapshot = OutboundMessage.of(message.build());
+        }
+        return snapshot;
+    }
+
+    // 기존 클라이언트용 ROOM_LIST_RESPONSE|방정보...
+    public synchronized OutboundMessage legacyList() {
+        if (legacyList == null) {
+            MessageBuilder message = MessageBuilder.start(ServerMessage.ROOM_LIST_RESPONSE);
+            for (String info : published.values()) {
+                message.add(info);
+            }
+            legacyList = OutboundMessage.of(message.build());
+        }
+        return legacyList;
+    }
+
+    public synchronized int getVersion() {
+        return version;
+    }
+
+    private void publish(int deltaVersion, OutboundMessage delta) {
+        recent[deltaVersion % REPLAY_LIMIT] = delta;
+        publisher.publish(delta);
+    }
+
+    private int nextVersion() {
+        snapshot = null;
+        legacyList = null;
+        return ++version;
+    }
+
+    // 방 정보 문자열 (이스케이프 전), 메시지에 넣을 때 MessageBuilder 가 이스케이프함
+    public static String roomInfo(GameRoom room) {
+        return new StringBuilder(64)
+                .append(room.getRoomId()).append(',')
+                .append(room.getRoomName()).append(',')
+                .append(room.getCurrentPlayers()).append(',')
+                .append(room.getMaxPlayers()).append(',')
+                .append(room.getGameMode().getDisplayName()).append(',')
+                .append(room.getDifficulty().getDisplayName()).append(',')
+                .append(room.getHostName())
+                .toString();
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * server.game.RoomMailbox.java
+ * 방 하나의 명령 대기열 (actor 방식)
+ * - 입장/퇴장/채팅/설정/게임 시작/GAME_ACTION/스케줄러 틱 등 방에 대한 모든 작업을 이 대기열에 넣음
+ * - 대기열의 작업은 공유 스레드 풀에서 한 번에 하나씩, 넣은 순서대로 실행됨
+ *   -> 방 상태(GameRoom, ServerGameState)는 락 없이 다뤄도 되고, 서로 다른 방은 여러 코어에서 동시에 실행됨
+ * - 방이 닫히면(close) 이후 들어오는 작업은 받지 않음
+ * - 작업 하나 동안 보낸 메시지는 WriteBatch 로 모아 연결별로 한 번에 씀
+ * - 플레이어 명령이 마지막으로 들어온 시각을 기록함 (방 유휴 시간 판단용, 틱은 포함하지 않음)
+ */
+
+package server.game;
+
+import server.network.WriteBatch;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+public class RoomMailbox {
+    private static final Logger logger = Logger.getLogger(RoomMailbox.class.getName());
+    // 한 번 실행될 때 처리할 최대 작업 수, 바쁜 방 하나가 풀의 스레드를 오래 잡지 않도록 나머지는 다시 풀에 넣음
+    private static final int MAX_TASKS_PER_RUN = 64;
+
+    private final String roomId;
+    private final Executor executor;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+    private volatile boolean closed = false;
+    private volatile long lastActivity = System.nanoTime();
+
+    public RoomMailbox(String roomId, Executor executor) {
+        this.roomId = roomId;
+        this.executor = executor;
+    }
+
+    /**
+     * 방에 작업을 넣습니다.
+     *
+     * @return 넣었으면 true, 이미 닫힌 방이면 false
+     */
+    public boolean execute(Runnable task) {
+        if (closed) {
+            return false;
+        }
+        tasks.add(task);
+        schedule();
+        return true;
+    }
+
+    /**
+     * 방을 닫습니다. 이미 대기열에 있는 작업은 실행되고, 이후 작업은 받지 않습니다.
+     * 방의 작업 안에서 호출합니다.
+     */
+    public void close() {
+        closed = true;
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    // 플레이어 명령이 들어왔음을 기록
+    public void touch() {
+        lastActivity = System.nanoTime();
+    }
+
+    public long getIdleMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - lastActivity);
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            try {
+                executor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // 서버 종료 중에는 남은 작업을 버림
+                scheduled.set(false);
+                tasks.clear();
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < MAX_TASKS_PER_RUN; i++) {
+                Runnable task = tasks.poll();
+                if (task == null) {
+                    break;
+                }
+                try {
+                    WriteBatch.run(task);
+                } catch (Exception e) {
+                    logger.severe("방 작업 처리 중 오류 (" + roomId + "): " + e.getMessage());
+                }
+            }
+        } finally {
+            scheduled.set(false);
+        }
+        // 실행을 마치는 사이에 들어온 작업이 있으면 다시 예약
+        if (!tasks.isEmpty()) {
+            schedule();
+        }
+    }
+}
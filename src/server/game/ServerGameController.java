@@ -2,39 +2,77 @@ package server.game;
 
 import client.event.GameEvent.ServerMessage;
 import game.model.DifficultyLevel;
+import game.model.GameMode;
 import game.model.GameRoom;
 import game.model.GameStatus;
+import game.model.PhLevel;
 import game.model.Word;
+import game.model.WordPack;
+import game.model.WordStream;
+import game.model.WordTrajectory;
+import game.protocol.MessageBuilder;
+import game.protocol.Topic;
 
 import server.GameServer;
+import server.ServerConfig;
 import server.ClientHandler;
 
-import java.util.concurrent.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
-public class ServerGameController {
+public final class ServerGameController {
     private static final Logger logger = Logger.getLogger(ServerGameController.class.getName());
     private final GameServer server;
     private final GameRoom room;
     private final ServerGameState gameState;
     private final ServerWordManager wordManager;
+    // 이 게임이 쓰는 단어 목록, 단어는 이 목록의 번호로 다루고 텍스트는 메시지를 보낼 때만 꺼냄
+    private final WordPack wordPack;
     private final LeaderboardManager leaderboardManager;
+    // 방의 작업 대기열, 틱과 플레이어 입력이 모두 여기서 순서대로 실행되므로 게임 상태에 락이 필요 없음
+    private final RoomMailbox mailbox;
+
+    // 서버 전체가 함께 쓰는 틱 스케줄러 -> 단어 생성, 낙하 시뮬레이션 (방 단위로 취소)
+    private final GameTickService tickService;
+    // 효과 만료 타이머
+    private final HashedWheelTimer timer;
+    // 자리 번호별 블라인드 만료 타이머, 게임이 끝나면 모두 취소함
+    private final HashedWheelTimer.Timeout[] blindTimeouts;
+    // 게임 시작 시의 난이도로 정한 낙하 시간, 게임 중 설정이 바뀌어도 유지함
+    private final long fallDurationMillis;
+    // pH 가 소진되어 게임 종료가 예약됨
+    private boolean gameOverPending = false;
+    private final long spawnInterval;
+    // 시드 모드에서 단어를 만드는 스트림, 클라이언트도 GAME_CONFIG 로 받은 시드로 같은 단어를 만듦 (시드 모드가 아니면 null)
+    private final WordStream wordStream;
+    // 다음에 생성할 단어의 id (방 안에서 0부터), 시드 모드에서는 스트림의 index 와 같음
+    private int nextWordIndex = 0;
+    private long streamStart;
+    // 단어를 WORD_SPAWNED 로 보낼지 여부, 시드 모드라도 단어 목록이 다른 클라이언트가 있으면 보내기 시작함
+    private boolean broadcastSpawns;
 
-    // 스케줄링을 위한 스레드 풀 -> 단어 생성, pH 체크
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
-    private ScheduledFuture<?> spawnTask;
-    private ScheduledFuture<?> phCheckTask;
-
-    private static final double PH_CHECK_INTERVAL = 1.0; // 초
-    private static final double PH_DECREASE_AMOUNT = 0.2;
     private static final int BLIND_EFFECT_DURATION = 5000; // 5초
+    private static final long SIMULATION_TICK_MILLIS = 100;
 
-    public ServerGameController(GameServer server, GameRoom room) {
+    public ServerGameController(GameServer server, GameRoom room, RoomMailbox mailbox,
+                                GameTickService tickService, HashedWheelTimer timer) {
         this.server = server;
         this.room = room;
+        this.mailbox = mailbox;
+        this.tickService = tickService;
+        this.timer = timer;
         this.gameState = new ServerGameState(room);
-        this.wordManager = new ServerWordManager(room.getGameMode());
+        this.blindTimeouts = new HashedWheelTimer.Timeout[gameState.getPlayerCount()];
+        this.wordManager = new ServerWordManager(room.getGameMode(), room.getDifficulty());
+        this.wordPack = wordManager.getWordPack();
         this.leaderboardManager = LeaderboardManager.getInstance();
+        this.fallDurationMillis = WordTrajectory.fallDurationMillis(room.getDifficulty());
+        this.gameState.setPhListener(this::onPhDepleted);
+        this.spawnInterval = calculateWordSpawnInterval(room.getDifficulty());
+        boolean seeded = Boolean.parseBoolean(ServerConfig.getProperty(ServerConfig.SEEDED_WORDS, "false"));
+        this.wordStream = seeded ? new WordStream(wordPack, ThreadLocalRandom.current().nextLong()) : null;
+        this.broadcastSpawns = !seeded;
 
         logger.info("게임 컨트롤러 생성: " + room.getRoomId());
     }
@@ -42,15 +80,16 @@ public class ServerGameController {
     public void startGame() {
         try {
             gameState.start();
-            long spawnInterval = calculateWordSpawnInterval(room.getDifficulty());
+            streamStart = currentTimeMillis();
 
-            // 단어 생성 작업 시작
-            spawnTask = scheduler.scheduleAtFixedRate(this::spawnWord,
-                    0, spawnInterval, TimeUnit.MILLISECONDS);
+            // 단어 생성 작업 시작 (스케줄러는 틱을 방의 mailbox 에 넣기만 하고, 보낸 메시지는 mailbox 가 모아서 씀)
+            // 시드 모드에서는 첫 단어를 한 간격 뒤에 만들어, 단어 목록이 다른 클라이언트가 알릴 시간을 둠
+            tickService.scheduleAtFixedRate(room.getRoomId(), () -> mailbox.execute(this::spawnWord),
+                    wordStream != null ? spawnInterval : 0, spawnInterval);
 
-            // pH 체크 작업 시작
-            phCheckTask = scheduler.scheduleAtFixedRate(this::checkPH,
-                    0, (long)(PH_CHECK_INTERVAL * 1000), TimeUnit.MILLISECONDS);
+            // 단어 낙하 시뮬레이션 (바닥에 닿은 단어를 놓친 것으로 처리)
+            tickService.scheduleAtFixedRate(room.getRoomId(), () -> mailbox.execute(this::advanceWords),
+                    SIMULATION_TICK_MILLIS, SIMULATION_TICK_MILLIS);
 
             logger.info("게임 시작됨: " + room.getRoomId());
         } catch (Exception e) {
@@ -60,89 +99,147 @@ public class ServerGameController {
         }
     }
 
+    /**
+     * 시드 모드이면 GAME_CONFIG 에 시드, 단어 목록 버전, 생성 간격(ms)을 붙입니다.
+     * GAME_CONFIG|모드|난이도|플레이어|시드|버전|간격
+     */
+    public void appendWordStreamConfig(MessageBuilder config) {
+        if (wordStream != null) {
+            config.add(wordStream.getSeed()).add(wordStream.getPack().getVersion()).add(spawnInterval);
+        }
+    }
+
+    /**
+     * GAME_START[|경과ms], startGame() 뒤에 만듭니다.
+     * 시드 모드이면 단어 스트림이 시작된 뒤 지난 시간을 붙이고, 클라이언트는 GAME_START 를 받은 시각에서
+     * 이 값을 빼서 단어 일정의 시작 시각으로 씀 (화면을 만드는 데 걸린 시간만큼 늦어지지 않음)
+     */
+    public String gameStartMessage() {
+        MessageBuilder message = MessageBuilder.start(ServerMessage.GAME_START);
+        if (wordStream != null) {
+            message.add(currentTimeMillis() - streamStart);
+        }
+        return message.build();
+    }
+
+    // 단어 목록이 달라 시드로 단어를 만들 수 없는 클라이언트가 있음 -> 이후 단어는 WORD_SPAWNED 로 보냄
+    // 이미 생성된 단어도 생성 후 지난 시간과 함께 보냄 (시드로 만든 클라이언트는 같은 id 의 단어를 그대로 둠)
+    public void handleWordStreamFallback(ClientHandler player) {
+        if (wordStream != null && !broadcastSpawns) {
+            broadcastSpawns = true;
+            logger.info("시드 단어 생성 중단, WORD_SPAWNED 전송으로 전환 - 플레이어: " + player.getUsername() +
+                    ", 방: " + room.getRoomId());
+            if (gameOverPending) {
+                return;
+            }
+            long now = currentTimeMillis();
+            for (SpawnedWord word : gameState.getActiveWords()) {
+                server.broadcastToRoom(room.getRoomId(), spawnMessage(word)
+                        .add(word.hasSpecialEffect() ? word.getEffect().name() : "")
+                        .add(Math.max(0, now - word.getSpawnTime()))
+                        .build());
+            }
+        }
+    }
+
+    // WORD_SPAWNED|방ID|단어ID|단어|x 까지 채운 메시지, 효과와 경과 시간은 호출한 쪽에서 붙임
+    private MessageBuilder spawnMessage(SpawnedWord word) {
+        return MessageBuilder.start(ServerMessage.WORD_SPAWNED)
+                .add(room.getRoomId())
+                .add(word.getId())
+                .add(wordPack.get(word.getWordIndex()))
+                .add(word.getX());
+    }
+
     private void spawnWord() {
-        if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
+        // 게임 종료를 기다리는 동안에는 새 단어를 만들지도 보내지도 않음
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS || gameOverPending) return;
 
         try {
-            Word word = wordManager.getRandomWord();
+            SpawnedWord word;
+            int index = nextWordIndex++;
+            if (wordStream != null) {
+                // n 번째 단어는 게임 시작 후 (n+1) 간격에 생김, 클라이언트도 같은 시각으로 위치를 계산함
+                int wordIndex = wordPack.canonicalIndex(wordStream.packIndexAt(index));
+                word = new SpawnedWord(index, wordIndex, wordPack.length(wordIndex), wordStream.xAt(index),
+                        wordStream.effectAt(index), streamStart + (index + 1L) * spawnInterval);
+            } else {
+                word = wordManager.getRandomWord(index, currentTimeMillis());
+            }
             gameState.addWord(word);
+            if (!broadcastSpawns) {
+                logger.fine("단어 생성 (시드): " + wordPack.get(word.getWordIndex()));
+                return;
+            }
 
             // 특수 효과 정보를 포함한 메시지 구성
-            String spawnMessage;
+            // WORD_SPAWNED|방ID|단어ID|단어|x[|효과], 이후 WORD_MATCHED/WORD_MISSED 는 단어 ID 로만 알림
+            MessageBuilder spawnMessage = spawnMessage(word);
             if (word.hasSpecialEffect()) {
-                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%s|%d|%s",
-                        room.getRoomId(),
-                        word.getText(),
-                        word.getX(),
-                        word.getEffect().name());  // SCORE_BOOST 또는 BLIND_OPPONENT
-            } else {
-                spawnMessage = String.format(ServerMessage.WORD_SPAWNED + "|%s|%s|%d",
-                        room.getRoomId(),
-                        word.getText(),
-                        word.getX());
+                spawnMessage.add(word.getEffect().name());  // SCORE_BOOST 또는 BLIND_OPPONENT
             }
 
-            server.broadcastToRoom(room.getRoomId(), spawnMessage);
-            logger.fine("단어 생성: " + word.getText() +
+            server.broadcastToRoom(room.getRoomId(), spawnMessage.build());
+            logger.fine("단어 생성: " + wordPack.get(word.getWordIndex()) +
                     (word.hasSpecialEffect() ? ", 효과: " + word.getEffect() : ""));
         } catch (Exception e) {
             logger.severe("단어 생성 중 오류: " + e.getMessage());
         }
     }
 
-    private void checkPH() {
-        if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
-
-        try {
-            // 단순히 pH가 0 이하인지만 체크
-            for (String player : room.getPlayers()) {
-                double ph = gameState.getPlayerPH(player);
-                if (ph <= 0) {
-                    handleGameOver();
-                    return;
-                }
-            }
-        } catch (Exception e) {
-            logger.severe("pH 체크 중 오류: " + e.getMessage());
+    /*
+     * pH 가 0 이하로 떨어진 순간 ServerGameState 가 호출함
+     * 지금 처리 중인 작업(단어 맞춤/놓침)의 메시지를 먼저 보내도록, 게임 종료는 mailbox 대기열의 끝에 넣음
+     * 그 앞에 이미 들어와 있는 틱과 명령은 gameOverPending 을 보고 단어 생성, 맞춤, 놓침을 건너뜀
+     */
+    private void onPhDepleted(int seat) {
+        if (gameOverPending) {
+            return;
         }
+        gameOverPending = true;
+        logger.fine("pH 소진: " + gameState.playerAt(seat) + ", 방: " + room.getRoomId());
+        mailbox.execute(this::handleGameOver);
     }
 
     public void handlePlayerInput(ClientHandler player, String typedWord) {
-        if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
+        // 이미 바닥에 닿은 단어는 맞출 수 없도록 낙하 처리를 먼저 함
+        advanceWords();
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS || gameOverPending) return;
+
+        // 이름으로 자리 번호를 찾는 것은 여기서 한 번만 함
+        int seat = gameState.seatOf(player.getUsername());
+        if (seat < 0) return;
 
         try {
-            Word matchedWord = gameState.matchWord(typedWord, player.getUsername());
+            // 입력을 단어 번호로 바꿈, 목록에 없는 단어면 화면에 있을 수 없음
+            int wordIndex = wordPack.indexOf(typedWord);
+            SpawnedWord matchedWord = wordIndex >= 0 ? gameState.matchWord(wordIndex, seat) : null;
             if (matchedWord != null) {
-                int newScore = gameState.getPlayerScore(player.getUsername());
-                String opponent = gameState.getOpponentOf(player.getUsername());
-                double opponentPH = opponent != null ? gameState.getPlayerPH(opponent) : 0.0;
-                double playerPH = gameState.getPlayerPH(player.getUsername());
+                int newScore = gameState.getPlayerScore(seat);
+                int opponent = gameState.opponentSeatOf(seat);
 
                 // WORD_MATCHED 메시지 전송 (점수 정보 포함)
                 server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.WORD_MATCHED + "|%s|%s|%s|%d",
-                                room.getRoomId(), matchedWord.getText(), player.getUsername(), newScore));
+                        MessageBuilder.start(ServerMessage.WORD_MATCHED).add(room.getRoomId())
+                                .add(matchedWord.getId()).add(gameState.playerAt(seat)).add(newScore).build());
 
                 // pH 업데이트 메시지
                 server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.PH_UPDATE + "|%s|%s|%.2f",
-                                room.getRoomId(), player.getUsername(), playerPH));
+                        MessageBuilder.start(ServerMessage.PH_UPDATE).add(room.getRoomId())
+                                .add(gameState.playerAt(seat)).addFixed2(gameState.getPlayerPH(seat)).build());
 
-                if (opponent != null) {
+                if (opponent >= 0) {
                     server.broadcastToRoom(room.getRoomId(),
-                            String.format(ServerMessage.PH_UPDATE + "|%s|%s|%.2f",
-                                    room.getRoomId(), opponent, opponentPH));
+                            MessageBuilder.start(ServerMessage.PH_UPDATE).add(room.getRoomId())
+                                    .add(gameState.playerAt(opponent)).addFixed2(gameState.getPlayerPH(opponent)).build());
                 }
 
                 // 특수효과 처리
                 if (matchedWord.hasSpecialEffect()) {
                     switch (matchedWord.getEffect()) {
                         case BLIND_OPPONENT:
-                            if (opponent != null) {
-                                // BLIND_EFFECT 메시지 전송 (예: 5초=5000ms)
-                                server.broadcastToRoom(room.getRoomId(),
-                                        String.format(ServerMessage.BLIND_EFFECT + "|%s|%s|%d",
-                                                room.getRoomId(), opponent, BLIND_EFFECT_DURATION));
+                            if (opponent >= 0) {
+                                applyBlind(opponent);
                             }
                             break;
                         case SCORE_BOOST:
@@ -156,62 +253,105 @@ public class ServerGameController {
         }
     }
 
-    public void handleWordMissed(String word, ClientHandler player) {
-        if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
+    /*
+     * 블라인드 효과는 서버가 만료 시각을 관리함
+     * 걸려 있는 동안 다시 맞으면 만료 시각을 늘리고, 만료되면 EFFECT_ENDED 로 알림
+     */
+    private void applyBlind(int target) {
+        gameState.setBlindedUntil(target, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BLIND_EFFECT_DURATION));
+        HashedWheelTimer.Timeout previous = blindTimeouts[target];
+        blindTimeouts[target] = timer.schedule(() -> mailbox.execute(() -> expireBlind(target)),
+                BLIND_EFFECT_DURATION, TimeUnit.MILLISECONDS);
+        if (previous != null) {
+            previous.cancel();
+        }
 
-        try {
-            synchronized(gameState) {
-                gameState.removeWord(word);  // 단어 제거
+        // BLIND_EFFECT 메시지 전송 (예: 5초=5000ms)
+        server.broadcastToRoom(room.getRoomId(),
+                MessageBuilder.start(ServerMessage.BLIND_EFFECT).add(room.getRoomId())
+                        .add(gameState.playerAt(target)).add(BLIND_EFFECT_DURATION).build());
+    }
 
-                // 모든 플레이어의 pH 감소
-                for (String playerName : room.getPlayers()) {
-                    gameState.decreasePH(playerName, PH_DECREASE_AMOUNT);  // 단어 놓칠 때마다 0.2 감소
-                    double newPH = gameState.getPlayerPH(playerName);
+    private void expireBlind(int target) {
+        // 만료 작업이 대기열에 있는 사이 다시 걸린 경우는 새 만료 시각까지 유지
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS || !gameState.clearBlindIfExpired(target, System.nanoTime())) {
+            return;
+        }
+        blindTimeouts[target] = null;
+        server.broadcastToRoom(room.getRoomId(),
+                MessageBuilder.start(ServerMessage.EFFECT_ENDED).add(room.getRoomId())
+                        .add(gameState.playerAt(target)).add(Word.SpecialEffect.BLIND_OPPONENT.name()).build());
+    }
 
-                    // pH 감소 메시지 전송
-                    server.broadcastToRoom(room.getRoomId(),
-                            String.format(ServerMessage.WORD_MISSED + "|%s|%s|%s|%.2f",
-                                    room.getRoomId(), word, playerName, newPH));
+    /*
+     * 단어의 낙하는 서버가 시뮬레이션함 (생성 시각 + 난이도별 속도, WordTrajectory)
+     * 바닥에 닿은 단어는 방 전체에서 한 번만 놓친 것으로 처리함
+     * (예전에는 클라이언트마다 WORD_MISSED 를 보내서 2인 방에서는 pH 가 두 번 깎였음)
+     */
+    private void advanceWords() {
+        if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
-                    if (newPH <= 0) {
-                        handleGameOver();
-                        return;
-                    }
-                }
+        try {
+            long now = currentTimeMillis();
+            SpawnedWord fallen;
+            while (!gameOverPending && (fallen = gameState.pollFallenWord(now, fallDurationMillis)) != null) {
+                missWord(fallen);
             }
         } catch (Exception e) {
-            logger.severe("단어 놓침 처리 중 오류: " + e.getMessage());
+            logger.severe("단어 낙하 처리 중 오류: " + e.getMessage());
         }
     }
 
+    private void missWord(SpawnedWord word) {
+        int playerCount = gameState.getPlayerCount();
+
+        // 모든 플레이어의 pH 감소
+        for (int seat = 0; seat < playerCount; seat++) {
+            gameState.decreasePH(seat, PhLevel.MISS_PENALTY);  // 단어 놓칠 때마다 0.2 감소
+        }
+
+        for (int seat = 0; seat < playerCount; seat++) {
+            // pH 감소 메시지 전송
+            server.broadcastToRoom(room.getRoomId(),
+                    MessageBuilder.start(ServerMessage.WORD_MISSED).add(room.getRoomId())
+                            .add(word.getId()).add(gameState.playerAt(seat)).addFixed2(gameState.getPlayerPH(seat)).build());
+        }
+    }
+
+    // 단어 생성 시각과 낙하 판단에 쓰는 시각 (ms), 시스템 시계가 바뀌어도 흔들리지 않도록 nanoTime 기준
+    private static long currentTimeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
     public void handlePlayerLeaveGame(ClientHandler player) {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
         try {
             String leavingPlayer = player.getUsername();
-            String opponent = gameState.getOpponentOf(leavingPlayer);
+            int leavingSeat = gameState.seatOf(leavingPlayer);
+            int opponentSeat = leavingSeat >= 0 ? gameState.opponentSeatOf(leavingSeat) : -1;
 
             // 게임 상태 종료
             stopGame();
 
-            if (opponent != null) {
+            if (opponentSeat >= 0) {
+                String opponent = gameState.playerAt(opponentSeat);
                 // 점수 정보 가져오기
-                int winnerScore = gameState.getPlayerScore(opponent);
-                int loserScore = gameState.getPlayerScore(leavingPlayer);
+                int winnerScore = gameState.getPlayerScore(opponentSeat);
+                int loserScore = gameState.getPlayerScore(leavingSeat);
 
                 // 리더보드 등록 시도
                 if (leaderboardManager.addEntry(opponent, winnerScore,
                         room.getGameMode(), room.getDifficulty())) {
                     int rank = leaderboardManager.getUserRank(opponent,
                             room.getGameMode(), room.getDifficulty());
-                    server.broadcastToRoom(room.getRoomId(),
-                            ServerMessage.LEADERBOARD_UPDATE + "|" + room.getRoomId() + "|" + opponent + "|" + rank);
+                    announceLeaderboardEntry(opponent, rank, room.getGameMode(), room.getDifficulty());
                 }
 
                 // 게임 종료 메시지 전송 (몰수승/패 처리)
                 server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.GAME_OVER + "|%s|%s|%d|%d|FORFEIT",
-                                room.getRoomId(), opponent, winnerScore, loserScore));
+                        MessageBuilder.start(ServerMessage.GAME_OVER).add(room.getRoomId()).add(opponent)
+                                .add(winnerScore).add(loserScore).add("FORFEIT").build());
             }
 
             logger.info("플레이어 게임 중 퇴장 (몰수패): " + leavingPlayer);
@@ -220,28 +360,37 @@ public class ServerGameController {
         }
     }
 
+    // 새 기록을 방과, 해당 리더보드를 보고 있는 클라이언트에게 알림
+    private void announceLeaderboardEntry(String player, int rank, GameMode mode, DifficultyLevel difficulty) {
+        String message = MessageBuilder.start(ServerMessage.LEADERBOARD_UPDATE)
+                .add(room.getRoomId()).add(player).add(rank).build();
+        server.broadcastToRoom(room.getRoomId(), message);
+        server.publish(Topic.leaderboard(mode, difficulty), message);
+    }
+
     // 게임 종료 처리
     private void handleGameOver() {
         if (gameState.getStatus() != GameStatus.IN_PROGRESS) return;
 
         try {
-            String winner = gameState.getWinner();
+            int winnerSeat = gameState.getWinnerSeat();
+            String winner = winnerSeat >= 0 ? gameState.playerAt(winnerSeat) : null;
             if (winner != null) {
-                int winnerScore = gameState.getPlayerScore(winner);
-                int loserScore = gameState.getOpponentScore(winner);
+                int loserSeat = gameState.opponentSeatOf(winnerSeat);
+                int winnerScore = gameState.getPlayerScore(winnerSeat);
+                int loserScore = loserSeat >= 0 ? gameState.getPlayerScore(loserSeat) : 0;
 
                 // 리더보드 등록 시도
                 if (leaderboardManager.addEntry(winner, winnerScore,
                         gameState.getGameMode(), gameState.getDifficulty())) {
                     int rank = leaderboardManager.getUserRank(winner,
                             gameState.getGameMode(), gameState.getDifficulty());
-                    server.broadcastToRoom(room.getRoomId(),
-                            ServerMessage.LEADERBOARD_UPDATE + room.getRoomId() + "|" + winner + "|" + rank);
+                    announceLeaderboardEntry(winner, rank, gameState.getGameMode(), gameState.getDifficulty());
                 }
 
                 server.broadcastToRoom(room.getRoomId(),
-                        String.format(ServerMessage.GAME_OVER + "|%s|%s|%d|%d",
-                                room.getRoomId(), winner, winnerScore, loserScore));
+                        MessageBuilder.start(ServerMessage.GAME_OVER).add(room.getRoomId()).add(winner)
+                                .add(winnerScore).add(loserScore).build());
             }
 
             stopGame();
@@ -253,13 +402,13 @@ public class ServerGameController {
 
     public void stopGame() {
         try {
-            if (spawnTask != null) {
-                spawnTask.cancel(false);
-            }
-            if (phCheckTask != null) {
-                phCheckTask.cancel(false);
+            tickService.cancelRoom(room.getRoomId());
+            for (int seat = 0; seat < blindTimeouts.length; seat++) {
+                if (blindTimeouts[seat] != null) {
+                    blindTimeouts[seat].cancel();
+                    blindTimeouts[seat] = null;
+                }
             }
-            scheduler.shutdown();
             gameState.end();
 
             logger.info("게임 중지됨: " + room.getRoomId());
@@ -268,6 +417,10 @@ public class ServerGameController {
         }
     }
 
+    public boolean isRunning() {
+        return gameState.getStatus() == GameStatus.IN_PROGRESS;
+    }
+
     private long calculateWordSpawnInterval(DifficultyLevel diff) {
         return switch (diff) {
             case EASY -> 4000;    // 4초
@@ -4,6 +4,13 @@
  * - 각 플레이어의 점수, pH를 관리
  * - 현재 활성화된 단어 목록을 관리
  * - 게임 시작/종료/진행 상태 관리
+ * 방의 mailbox(RoomMailbox) 안에서만 접근하므로 락 없이 일반 컬렉션을 사용함
+ *
+ * 플레이어는 자리 번호(seat)로 다룸
+ * - 게임 시작 시의 플레이어 목록(roster)을 고정하고, 점수/pH/블라인드는 자리 번호로 찾는 기본형 배열에 둠
+ * - 이름 -> 자리 번호 변환은 요청을 받은 곳에서 한 번만 함 (seatOf)
+ *   -> 단어 입력 처리 중에는 박싱이나 배열 복사가 없음
+ * pH 는 100 을 곱한 정수로 다룸 (PhLevel)
  */
 
 package server.game;
@@ -12,54 +19,65 @@ import game.model.GameMode;
 import game.model.DifficultyLevel;
 import game.model.GameRoom;
 import game.model.GameStatus;
+import game.model.PhLevel;
 import game.model.Word;
 
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 public class ServerGameState {
     private static final Logger logger = Logger.getLogger(ServerGameState.class.getName());
-    private static final double INITIAL_PH = 7.0;
-    private static final double MIN_PH = 0.0;
 
     private final GameRoom room;
-    private final Map<String, Integer> scores = new ConcurrentHashMap<>();
-    private final Map<String, Double> phValues = new ConcurrentHashMap<>();
-    private final List<Word> activeWords = Collections.synchronizedList(new ArrayList<>());
+    // 게임 시작 시의 플레이어 목록, 게임 중에는 바뀌지 않음 (자리 번호 = 배열 index)
+    private final String[] roster;
+    private final int[] scores;
+    // pH x 100 (PhLevel)
+    private final int[] phValues;
+    // 블라인드 효과가 끝나는 시각 (System.nanoTime 기준), blinded 가 true 인 자리만 의미가 있음
+    private final long[] blindedUntil;
+    private final boolean[] blinded;
+    // 생성 순서 + 단어 번호 색인, 입력 한 번에 O(1) 로 찾고 뺌
+    private final ActiveWordSet activeWords = new ActiveWordSet();
     private volatile GameStatus status = GameStatus.WAITING;
+    private PhListener phListener;
+
+    // 플레이어의 pH 가 0 이하로 떨어진 순간 호출됨 (주기적으로 검사하지 않음)
+    public interface PhListener {
+        void onPhDepleted(int seat);
+    }
 
     public ServerGameState(GameRoom room) {
         this.room = room;
+        this.roster = room.getPlayers();
+        this.scores = new int[roster.length];
+        this.phValues = new int[roster.length];
+        this.blindedUntil = new long[roster.length];
+        this.blinded = new boolean[roster.length];
         initializePlayers();
         logger.info("게임 상태 초기화: " + room.getRoomId());
     }
 
     private void initializePlayers() {
-        synchronized (this) {
-            for (String player : room.getPlayers()) {
-                scores.put(player, 0);
-                phValues.put(player, INITIAL_PH);
-            }
-        }
+        Arrays.fill(scores, 0);
+        Arrays.fill(phValues, PhLevel.INITIAL);
+        Arrays.fill(blinded, false);
     }
 
     public void start() {
-        synchronized (this) {
-            status = GameStatus.IN_PROGRESS;
-            // 게임 시작 시 모든 플레이어의 상태 리셋
-            initializePlayers();
-            activeWords.clear();
-        }
+        status = GameStatus.IN_PROGRESS;
+        // 게임 시작 시 모든 플레이어의 상태 리셋
+        initializePlayers();
+        activeWords.clear();
         logger.info("게임 시작: " + room.getRoomId());
     }
 
     public void end() {
-        synchronized (this) {
-            status = GameStatus.FINISHED;
-            // 게임 종료 시 단어 목록 클리어
-            activeWords.clear();
-        }
+        status = GameStatus.FINISHED;
+        // 게임 종료 시 단어 목록 클리어
+        activeWords.clear();
+        Arrays.fill(blinded, false);
         logger.info("게임 종료: " + room.getRoomId());
     }
 
@@ -67,146 +85,203 @@ public class ServerGameState {
         return status;
     }
 
-    public synchronized void addWord(Word word) {
-        activeWords.add(word);
+    /**
+     * 플레이어 이름으로 자리 번호를 찾습니다.
+     *
+     * @return 자리 번호, 게임에 참가하지 않은 플레이어면 -1
+     */
+    public int seatOf(String player) {
+        for (int seat = 0; seat < roster.length; seat++) {
+            if (roster[seat].equals(player)) {
+                return seat;
+            }
+        }
+        return -1;
     }
 
-    public synchronized Word removeWord(String text) {
-        Optional<Word> word = activeWords.stream()
-                .filter(w -> w.getText().equals(text))
-                .findFirst();
-        word.ifPresent(activeWords::remove);
-        return word.orElse(null);
+    public String playerAt(int seat) {
+        return roster[seat];
     }
 
-    public List<Word> getActiveWords() {
-        synchronized (activeWords) {
-            return new ArrayList<>(activeWords);
+    public int getPlayerCount() {
+        return roster.length;
+    }
+
+    // 상대방 자리 번호, 혼자인 경우 -1
+    public int opponentSeatOf(int seat) {
+        if (roster.length < 2) {
+            return -1;
         }
+        return seat == 0 ? 1 : 0;
     }
 
-    public Word matchWord(String typedWord, String player) {
-        synchronized (this) {
-            Optional<Word> matched = activeWords.stream()
-                    .filter(w -> w.getText().equals(typedWord))
-                    .findFirst();
+    public void addWord(SpawnedWord word) {
+        activeWords.add(word);
+    }
 
-            if (matched.isPresent()) {
-                Word word = matched.get();
-                activeWords.remove(word);
+    // 같은 단어가 여러 개면 가장 먼저 생긴 단어를 뺌
+    public SpawnedWord removeWord(int wordIndex) {
+        return activeWords.removeOldest(wordIndex);
+    }
 
-                // 점수 계산 및 pH 변경 로직
-                int basePoints = calculateBasePoints(word);
-                int finalPoints = calculateFinalPoints(word, basePoints);
-                addScore(player, finalPoints);
-                adjustPH(player, 0.3);
+    /**
+     * 바닥에 닿은 가장 오래된 단어를 꺼냅니다.
+     * 같은 게임의 단어는 모두 같은 속도로 떨어지므로 생성 순서대로 바닥에 닿고, 맨 앞 단어만 보면 됩니다.
+     *
+     * @param nowMillis 현재 시각 (단어 생성 시각과 같은 기준)
+     * @param fallDurationMillis 생성부터 바닥까지 걸리는 시간
+     * @return 바닥에 닿은 단어, 없으면 null
+     */
+    public SpawnedWord pollFallenWord(long nowMillis, long fallDurationMillis) {
+        SpawnedWord oldest = activeWords.peekOldest();
+        if (oldest == null || nowMillis - oldest.getSpawnTime() < fallDurationMillis) {
+            return null;
+        }
+        return activeWords.pollOldest();
+    }
 
-                String opponent = getOpponentOf(player);
-                if (opponent != null) {
-                    decreasePH(opponent, 0.2);
-                }
+    public List<SpawnedWord> getActiveWords() {
+        return activeWords.toList();
+    }
 
-                return word; // 매칭된 단어 반환
+    /**
+     * 입력한 단어와 같은 단어(가장 오래된 것)를 맞춘 것으로 처리합니다.
+     *
+     * @param wordIndex 입력한 단어의 WordPack 번호 (WordPack.indexOf)
+     * @return 맞춘 단어, 화면에 없으면 null
+     */
+    public SpawnedWord matchWord(int wordIndex, int seat) {
+        SpawnedWord word = activeWords.removeOldest(wordIndex);
+        if (word != null) {
+
+            // 점수 계산 및 pH 변경 로직
+            int basePoints = calculateBasePoints(word);
+            int finalPoints = calculateFinalPoints(word, basePoints);
+            addScore(seat, finalPoints);
+            adjustPH(seat, PhLevel.MATCH_GAIN);
+
+            int opponent = opponentSeatOf(seat);
+            if (opponent >= 0) {
+                decreasePH(opponent, PhLevel.MATCH_PENALTY);
             }
-            return null;
+
+            return word; // 매칭된 단어 반환
         }
+        return null;
     }
 
-    private int calculateBasePoints(Word word) {
-        return word.getText().length() * 10;
+    private int calculateBasePoints(SpawnedWord word) {
+        return word.getLength() * 10;
     }
 
-    private int calculateFinalPoints(Word word, int basePoints) {
+    private int calculateFinalPoints(SpawnedWord word, int basePoints) {
         if (word.hasSpecialEffect() && word.getEffect() == Word.SpecialEffect.SCORE_BOOST) {
             return (int)(basePoints * 1.5);
         }
         return basePoints;
     }
 
-    public void addScore(String player, int points) {
-        scores.computeIfPresent(player, (k, v) -> v + points);
-        logger.fine(String.format("점수 추가 - 플레이어: %s, 점수: %d", player, points));
-    }
-
-    public void decreasePH(String player, double amount) {
-        synchronized (this) {
-            phValues.computeIfPresent(player, (k, v) -> Math.max(MIN_PH, v - amount));
-            logger.fine(String.format("pH 감소 - 플레이어: %s, 감소량: %.2f", player, amount));
+    public void addScore(int seat, int points) {
+        scores[seat] += points;
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(String.format("점수 추가 - 플레이어: %s, 점수: %d", roster[seat], points));
         }
     }
 
-    public void adjustPH(String player, double amount) {
-        synchronized (this) {
-            phValues.computeIfPresent(player, (k, v) ->
-                    Math.min(INITIAL_PH, Math.max(MIN_PH, v + amount)));
-            logger.fine(String.format("pH 조정 - 플레이어: %s, 조정량: %.2f", player, amount));
+    // amount: pH x 100
+    public void decreasePH(int seat, int amount) {
+        setPH(seat, -amount);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(String.format("pH 감소 - 플레이어: %s, 감소량: %.2f", roster[seat], PhLevel.toDouble(amount)));
         }
     }
 
-    public double getPlayerPH(String player) {
-        return phValues.getOrDefault(player, MIN_PH);
+    // amount: pH x 100
+    public void adjustPH(int seat, int amount) {
+        setPH(seat, amount);
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(String.format("pH 조정 - 플레이어: %s, 조정량: %.2f", roster[seat], PhLevel.toDouble(amount)));
+        }
     }
 
-    public boolean isGameOver() {
-        synchronized (this) {
-            return phValues.values().stream().anyMatch(ph -> ph <= MIN_PH);
+    // pH 를 바꾸고, 이번 변경으로 0 이하가 된 순간에만 리스너에 알림
+    private void setPH(int seat, int delta) {
+        int current = phValues[seat];
+        int updated = PhLevel.clamp(current + delta);
+        phValues[seat] = updated;
+        if (current > PhLevel.MIN && updated <= PhLevel.MIN && phListener != null) {
+            phListener.onPhDepleted(seat);
         }
     }
 
-    public String getWinner() {
-        synchronized (this) {
-            // 살아있는 플레이어 찾기
-            List<String> alivePlayers = new ArrayList<>();
-            for (String player : room.getPlayers()) {
-                if (phValues.getOrDefault(player, MIN_PH) > MIN_PH) {
-                    alivePlayers.add(player);
-                }
-            }
+    public void setPhListener(PhListener phListener) {
+        this.phListener = phListener;
+    }
 
-            // 승자 결정
-            if (alivePlayers.size() == 1) {
-                return alivePlayers.get(0);
-            } else if (alivePlayers.isEmpty()) {
-                // 모두 죽었으면 점수로 결정
-                return determineWinnerByScore();
-            } else {
-                // 여러 명 생존 시 점수로 결정
-                return determineWinnerByScore(alivePlayers);
-            }
-        }
+    public void setBlindedUntil(int seat, long deadlineNanos) {
+        blindedUntil[seat] = deadlineNanos;
+        blinded[seat] = true;
     }
 
-    private String determineWinnerByScore() {
-        return scores.entrySet().stream()
-                .max(Map.Entry.comparingByValue())
-                .map(Map.Entry::getKey)
-                .orElse(room.getPlayers()[0]);
+    public boolean isBlinded(int seat) {
+        return blinded[seat];
     }
 
-    private String determineWinnerByScore(List<String> players) {
-        return players.stream()
-                .max(Comparator.comparingInt(this::getPlayerScore))
-                .orElse(players.get(0));
+    /**
+     * 블라인드 만료 시각이 지났으면 효과를 풉니다.
+     *
+     * @return 풀었으면 true, 걸려 있지 않거나 아직 남아 있으면 false
+     */
+    public boolean clearBlindIfExpired(int seat, long nowNanos) {
+        if (!blinded[seat] || nowNanos - blindedUntil[seat] < 0) {
+            return false;
+        }
+        blinded[seat] = false;
+        return true;
     }
 
-    public int getPlayerScore(String player) {
-        return scores.getOrDefault(player, 0);
+    // pH x 100
+    public int getPlayerPH(int seat) {
+        return phValues[seat];
     }
 
-    public int getOpponentScore(String player) {
-        synchronized (this) {
-            for (String p : scores.keySet()) {
-                if (!p.equals(player)) return scores.get(p);
+    public boolean isGameOver() {
+        for (int ph : phValues) {
+            if (ph <= PhLevel.MIN) {
+                return true;
             }
-            return 0;
         }
+        return false;
     }
 
-    public String getOpponentOf(String player) {
-        synchronized (this) {
-            return room.getPlayers()[0].equals(player) ?
-                    room.getPlayers()[1] : room.getPlayers()[0];
+    /**
+     * 승자의 자리 번호를 정합니다.
+     * pH 가 남은 플레이어가 한 명이면 그 플레이어, 아니면 (남은 플레이어 중, 모두 소진됐으면 전체 중) 점수가 높은 플레이어
+     *
+     * @return 승자의 자리 번호, 플레이어가 없으면 -1
+     */
+    public int getWinnerSeat() {
+        int aliveCount = 0;
+        for (int ph : phValues) {
+            if (ph > PhLevel.MIN) {
+                aliveCount++;
+            }
+        }
+
+        int winner = -1;
+        for (int seat = 0; seat < roster.length; seat++) {
+            if (aliveCount > 0 && phValues[seat] <= PhLevel.MIN) {
+                continue;
+            }
+            if (winner < 0 || scores[seat] > scores[winner]) {
+                winner = seat;
+            }
         }
+        return winner;
+    }
+
+    public int getPlayerScore(int seat) {
+        return scores[seat];
     }
 
     public GameMode getGameMode() {
@@ -218,10 +293,19 @@ public class ServerGameState {
     }
 
     public Map<String, Integer> getScores() {
-        return new HashMap<>(scores);
+        Map<String, Integer> result = new HashMap<>();
+        for (int seat = 0; seat < roster.length; seat++) {
+            result.put(roster[seat], scores[seat]);
+        }
+        return result;
     }
 
-    public Map<String, Double> getPHValues() {
-        return new HashMap<>(phValues);
+    // 플레이어 -> pH x 100
+    public Map<String, Integer> getPHValues() {
+        Map<String, Integer> result = new HashMap<>();
+        for (int seat = 0; seat < roster.length; seat++) {
+            result.put(roster[seat], phValues[seat]);
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,115 +1,66 @@
+/*
+ * server.game.ServerWordManager.java
+ * 게임 하나의 단어 생성
+ * - 단어는 WordCorpus 가 모드/난이도별로 미리 만든 추출기(WordSampler)로 O(1) 에 뽑음
+ * - 난수 생성기는 방마다 하나씩 가짐 (SplittableRandom), 방의 mailbox 안에서만 쓰므로 다른 방과 경쟁하지 않음
+ */
+
 package server.game;
 
+import game.model.DifficultyLevel;
 import game.model.GameMode;
 import game.model.Word;
-import java.io.IOException;
-import java.nio.file.*;
-import java.util.*;
+import game.model.WordPack;
+
+import java.util.SplittableRandom;
 import java.util.logging.Logger;
 
 public class ServerWordManager {
     private static final Logger logger = Logger.getLogger(ServerWordManager.class.getName());
-    private static final String WORDS_DIRECTORY = "resources/words/";
-    private final Map<GameMode, List<String>> wordsByMode = new HashMap<>();
-    private final Random random = new Random();
-    private final GameMode mode;
-
-    public ServerWordManager(GameMode mode) {
-        this.mode = mode;
-        loadWordsForMode(mode);
-        logger.info("단어 관리자 초기화: " + mode.name());
-    }
+    // 방마다 나눠 줄 난수 생성기의 뿌리, split 은 게임을 만들 때 한 번만 하므로 락을 걸어도 부담이 없음
+    private static final SplittableRandom ROOT_RANDOM = new SplittableRandom();
 
-    private void loadWordsForMode(GameMode mode) {
-        String filename = WORDS_DIRECTORY + "words_" + mode.name().toLowerCase() + ".txt";
-        Path filePath = Paths.get(filename);
+    // 게임 시작 시 WordCorpus 에서 받은 추출기와 단어 목록, 게임 중에 단어 파일이 바뀌어도 이 게임은 같은 목록을 씀
+    private final WordSampler sampler;
+    private final WordPack pack;
+    private final SplittableRandom random;
 
-        try {
-            Files.createDirectories(Paths.get(WORDS_DIRECTORY));
-        } catch (IOException e) {
-            logger.severe("단어 디렉토리 생성 실패: " + e.getMessage());
+    public ServerWordManager(GameMode mode, DifficultyLevel difficulty) {
+        this.sampler = WordCorpus.getInstance().sampler(mode, difficulty);
+        this.pack = sampler.getPack();
+        synchronized (ROOT_RANDOM) {
+            this.random = ROOT_RANDOM.split();
         }
-
-        if (!Files.exists(filePath)) {
-            createDefaultWordFile(mode, filePath);
-        }
-
-        try {
-            List<String> words = Files.readAllLines(filePath);
-            words.removeIf(String::isEmpty);
-            wordsByMode.put(mode, words);
-            logger.info(mode.name() + " 모드의 단어 " + words.size() + "개 로드됨");
-        } catch (IOException e) {
-            logger.severe(mode.name() + " 단어 파일 읽기 실패: " + e.getMessage());
-            wordsByMode.put(mode, getDefaultWords(mode));
-        }
-    }
-
-    private List<String> getDefaultWords(GameMode mode) {
-        return switch (mode) {
-            case JAVA -> List.of(
-                    "public", "class", "extends", "implements", "void",
-                    "int", "boolean", "String", "final", "static",
-                    "private", "protected", "abstract", "try", "catch",
-                    "throw", "import", "return", "for", "while",
-                    "interface", "package", "synchronized", "volatile", "transient"
-            );
-            case PYTHON -> List.of(
-                    "def", "class", "import", "from", "as",
-                    "if", "elif", "else", "while", "for",
-                    "in", "try", "except", "finally", "with",
-                    "print", "lambda", "yield", "global", "nonlocal",
-                    "async", "await", "raise", "assert", "pass"
-            );
-            case KOTLIN -> List.of(
-                    "fun", "val", "var", "class", "object",
-                    "interface", "override", "private", "public", "protected",
-                    "data", "sealed", "companion", "init", "constructor",
-                    "suspend", "coroutine", "flow", "sequence", "lateinit"
-            );
-            case C -> List.of(
-                    "int", "char", "float", "double", "void",
-                    "long", "short", "signed", "unsigned", "struct",
-                    "union", "enum", "typedef", "const", "static",
-                    "extern", "register", "volatile", "sizeof", "switch"
-            );
-            default -> List.of("default", "word", "test");
-        };
+        logger.info("단어 관리자 초기화: " + mode.name() + "/" + difficulty.name() + ", 단어 " + pack.size() + "개");
     }
 
-    private void createDefaultWordFile(GameMode mode, Path filePath) {
-        try {
-            List<String> defaultWords = getDefaultWords(mode);
-            Files.write(filePath, defaultWords);
-            logger.info(mode.name() + " 기본 단어 파일 생성됨");
-        } catch (IOException e) {
-            logger.severe(mode.name() + " 기본 단어 파일 생성 실패: " + e.getMessage());
-        }
+    // 시드로 단어를 만들 때(WordStream) 쓰는 단어 목록, 클라이언트와 같은 목록인지 버전으로 확인함
+    public WordPack getWordPack() {
+        return pack;
     }
 
-    public Word getRandomWord() {
-        List<String> words = wordsByMode.getOrDefault(mode, Collections.emptyList());
-        if (words.isEmpty()) {
-            logger.warning(mode.name() + " 모드의 단어가 없습니다. 기본값 사용");
-            return new Word("default", 100, 0);
-        }
-
-        String text = words.get(random.nextInt(words.size()));
+    /**
+     * 단어를 무작위로 하나 만듭니다.
+     *
+     * @param id 방 안에서의 단어 번호
+     * @param spawnTime 생성 시각 (ms)
+     */
+    public SpawnedWord getRandomWord(int id, long spawnTime) {
+        int wordIndex = sampler.sample(random);
         int xPos = random.nextInt(600) + 100; // 100~700 범위
-        Word word = new Word(text, xPos, 0);
 
         // 20% 확률로 특수 효과 부여
-        if (random.nextDouble() < 0.2) {
-            word.setSpecialEffect(true);
+        Word.SpecialEffect effect = null;
+        if (random.nextInt(100) < 20) {
             // 50% 확률로 점수 부스트 또는 상대방 블라인드
             if (random.nextBoolean()) {
-                word.setEffect(Word.SpecialEffect.SCORE_BOOST);
+                effect = Word.SpecialEffect.SCORE_BOOST;
             } else {
-                word.setEffect(Word.SpecialEffect.BLIND_OPPONENT);
+                effect = Word.SpecialEffect.BLIND_OPPONENT;
             }
-            logger.fine("특수 효과 단어 생성: " + text + ", 효과: " + word.getEffect());
+            logger.fine("특수 효과 단어 생성: " + pack.get(wordIndex) + ", 효과: " + effect);
         }
 
-        return word;
+        return new SpawnedWord(id, wordIndex, pack.length(wordIndex), xPos, effect, spawnTime);
     }
-}
\ No newline at end of file
+}
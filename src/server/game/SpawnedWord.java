@@ -0,0 +1,58 @@
+/*
+ * server.game.SpawnedWord.java
+ * 서버에서 게임 중에 떠 있는 단어 하나 (불변 값 객체)
+ * - 단어 텍스트 대신 WordPack 안의 번호를 들고 있음, 텍스트가 필요하면 WordPack 에서 꺼냄
+ * - 클라이언트용 Word 와 달리 화면 좌표(y)나 그리기 정보가 없음
+ */
+
+package server.game;
+
+import game.model.Word;
+
+public final class SpawnedWord {
+    private final int id;
+    // WordPack 안의 번호 (같은 단어는 같은 번호, WordPack.canonicalIndex)
+    private final int wordIndex;
+    private final int length;
+    private final int x;
+    // 특수 효과, 없으면 null
+    private final Word.SpecialEffect effect;
+    private final long spawnTime;
+
+    public SpawnedWord(int id, int wordIndex, int length, int x, Word.SpecialEffect effect, long spawnTime) {
+        this.id = id;
+        this.wordIndex = wordIndex;
+        this.length = length;
+        this.x = x;
+        this.effect = effect;
+        this.spawnTime = spawnTime;
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getWordIndex() {
+        return wordIndex;
+    }
+
+    public int getLength() {
+        return length;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public boolean hasSpecialEffect() {
+        return effect != null;
+    }
+
+    public Word.SpecialEffect getEffect() {
+        return effect;
+    }
+
+    public long getSpawnTime() {
+        return spawnTime;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * server.game.WordCorpus.java
+ * 서버 전체가 함께 쓰는 모드별 단어 목록 저장소 (싱글턴)
+ * - 모드별 단어 파일은 서버 시작 시(또는 처음 필요할 때) 한 번만 읽고, 모든 방이 같은 WordPack(불변)을 나눠 씀
+ *   (예전에는 게임을 시작할 때마다 디렉토리 생성 + 파일 읽기를 해서 방 작업 스레드가 디스크 I/O 를 기다렸음)
+ * - resources/words/ 를 WatchService 로 지켜보다가 단어 파일이 바뀌면 새 WordPack 을 만들어 통째로 바꿔 끼움
+ *   진행 중인 게임은 시작할 때 받은 WordPack 을 끝까지 쓰므로 멈추지 않고, 시드 모드에서 클라이언트와 맞춘 버전도 바뀌지 않음
+ * - 바뀐 파일을 읽지 못하거나 비어 있으면 이전 목록을 그대로 씀 (처음 읽을 때는 기본 단어를 씀) -> 반환하는 목록은 비어 있지 않음
+ *   단어 파일이 없을 때도 기본 단어는 메모리에서만 씀 -> 서버를 다른 작업 디렉토리에서 띄워도 그곳에 단어 파일을 만들지 않음
+ *   나중에 단어 파일을 넣으면 디렉토리 감시로 반영됨
+ * - 목록을 읽을 때 난이도별 단어 추출기(WordSampler)도 같이 만들어, 목록과 추출기를 한 번에 바꿔 끼움
+ * - 바이너리 단어 파일(.pack)이 있으면 그것을 읽음, server.words.import 가 켜져 있으면 읽기 전에 바뀐 .txt 를 먼저 변환함
+ *   (.pack 이 있는데 변환을 끄면 .txt 를 고쳐도 반영되지 않음)
+ */
+
+package server.game;
+
+import game.model.DifficultyLevel;
+import game.model.GameMode;
+import game.model.WordPack;
+import server.ServerConfig;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+public class WordCorpus {
+    private static final Logger logger = Logger.getLogger(WordCorpus.class.getName());
+    // 편집기가 파일을 여러 번에 나눠 쓰는 경우가 있어, 변경을 알아챈 뒤 잠깐 기다렸다가 한 번에 다시 읽음
+    private static final long RELOAD_DELAY_MILLIS = 200;
+    private static volatile WordCorpus instance;
+
+    private final Map<GameMode, Corpus> corpora = new ConcurrentHashMap<>();
+    private final boolean importWords = Boolean.parseBoolean(ServerConfig.getProperty(ServerConfig.IMPORT_WORDS, "false"));
+    private final WordPackImporter importer = new WordPackImporter();
+    private WatchService watchService;
+
+    private WordCorpus() {
+        try {
+            Files.createDirectories(Paths.get(WordPack.WORDS_DIRECTORY));
+        } catch (IOException e) {
+            logger.severe("단어 디렉토리 생성 실패: " + e.getMessage());
+        }
+    }
+
+    public static WordCorpus getInstance() {
+        if (instance == null) {
+            synchronized (WordCorpus.class) {
+                if (instance == null) {
+                    instance = new WordCorpus();
+                }
+            }
+        }
+        return instance;
+    }
+
+    // 모든 모드의 단어 목록을 미리 읽어 둠, 첫 게임이 디스크를 기다리지 않도록 서버 시작 시 호출함
+    public void preload() {
+        for (GameMode mode : GameMode.values()) {
+            get(mode);
+        }
+    }
+
+    /**
+     * 모드의 현재 단어 목록을 반환합니다. 아직 읽지 않은 모드만 이 호출에서 파일을 읽습니다.
+     * 반환된 WordPack 은 불변이므로, 이후 파일이 바뀌어도 받은 쪽에서는 그대로 유지됩니다.
+     */
+    public WordPack get(GameMode mode) {
+        return corpus(mode).pack;
+    }
+
+    // 모드의 현재 단어 목록으로 만든 난이도별 추출기, getPack() 으로 같은 버전의 목록을 얻음
+    public WordSampler sampler(GameMode mode, DifficultyLevel difficulty) {
+        return corpus(mode).samplers[difficulty.ordinal()];
+    }
+
+    private Corpus corpus(GameMode mode) {
+        Corpus corpus = corpora.get(mode);
+        if (corpus != null) {
+            return corpus;
+        }
+        return corpora.computeIfAbsent(mode, m -> new Corpus(loadInitial(m)));
+    }
+
+    /**
+     * 단어 디렉토리 감시를 시작합니다. 이미 감시 중이면 아무것도 하지 않습니다.
+     */
+    public synchronized void startWatching() {
+        if (watchService != null) {
+            return;
+        }
+        try {
+            WatchService service = FileSystems.getDefault().newWatchService();
+            Paths.get(WordPack.WORDS_DIRECTORY).register(service, ENTRY_CREATE, ENTRY_MODIFY);
+            watchService = service;
+            Thread.ofPlatform().name("word-corpus-watcher").daemon(true).start(() -> watch(service));
+            logger.info("단어 디렉토리 감시 시작: " + WordPack.WORDS_DIRECTORY);
+        } catch (IOException e) {
+            logger.warning("단어 디렉토리 감시 시작 실패, 단어 변경은 서버를 다시 시작해야 반영됨: " + e.getMessage());
+        }
+    }
+
+    public synchronized void shutdown() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("단어 디렉토리 감시 종료 중 오류: " + e.getMessage());
+        }
+        watchService = null;
+    }
+
+    private void watch(WatchService service) {
+        while (true) {
+            WatchKey key;
+            try {
+                key = service.take();
+                TimeUnit.MILLISECONDS.sleep(RELOAD_DELAY_MILLIS);
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Set<GameMode> changed = EnumSet.noneOf(GameMode.class);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == OVERFLOW) {
+                    // 놓친 변경이 있으면 모두 다시 읽음
+                    changed.addAll(EnumSet.allOf(GameMode.class));
+                    continue;
+                }
+                GameMode mode = modeOf((Path) event.context());
+                if (mode != null) {
+                    changed.add(mode);
+                }
+            }
+            for (GameMode mode : changed) {
+                reload(mode);
+            }
+            if (!key.reset()) {
+                logger.warning("단어 디렉토리를 더 이상 감시할 수 없음: " + WordPack.WORDS_DIRECTORY);
+                return;
+            }
+        }
+    }
+
+    // 바뀐 파일의 모드, 단어 파일(.txt, .pack)이 아니면 null
+    private static GameMode modeOf(Path fileName) {
+        for (GameMode mode : GameMode.values()) {
+            if (WordPack.pathFor(mode).getFileName().equals(fileName)
+                    || WordPack.binaryPathFor(mode).getFileName().equals(fileName)) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    // 변환에 실패하면 남아 있는 .pack(없으면 .txt)을 그대로 읽음
+    private void importIfEnabled(GameMode mode) {
+        if (!importWords) {
+            return;
+        }
+        try {
+            importer.importIfStale(mode);
+        } catch (IOException e) {
+            logger.warning(mode.name() + " 단어 파일 변환 실패: " + e.getMessage());
+        }
+    }
+
+    private void reload(GameMode mode) {
+        // 변환한 .pack 이 생기면 감시 이벤트가 한 번 더 오지만, 그때는 변환하지 않고 같은 버전을 읽기만 함
+        importIfEnabled(mode);
+        try {
+            WordPack pack = WordPack.load(mode);
+            if (pack.size() == 0) {
+                logger.warning(mode.name() + " 단어 파일이 비어 있어 이전 목록을 유지함");
+                return;
+            }
+            Corpus previous = corpora.put(mode, new Corpus(pack));
+            if (previous == null || previous.pack.getVersion() != pack.getVersion()) {
+                logger.info(mode.name() + " 단어 목록 교체: " + pack.size() + "개, 버전 " + pack.getVersion());
+            }
+        } catch (IOException e) {
+            logger.warning(mode.name() + " 단어 파일 다시 읽기 실패, 이전 목록을 유지함: " + e.getMessage());
+        }
+    }
+
+    private WordPack loadInitial(GameMode mode) {
+        Path filePath = WordPack.pathFor(mode);
+        if (!Files.exists(filePath) && !Files.exists(WordPack.binaryPathFor(mode))) {
+            logger.warning(mode.name() + " 단어 파일이 없어 기본 단어를 사용함: " + filePath.toAbsolutePath());
+            return new WordPack(getDefaultWords(mode));
+        }
+        importIfEnabled(mode);
+
+        try {
+            WordPack pack = WordPack.load(mode);
+            if (pack.size() == 0) {
+                logger.warning(mode.name() + " 단어 파일이 비어 있어 기본 단어를 사용함");
+                return new WordPack(getDefaultWords(mode));
+            }
+            logger.info(mode.name() + " 모드의 단어 " + pack.size() + "개 로드됨");
+            return pack;
+        } catch (IOException e) {
+            logger.severe(mode.name() + " 단어 파일 읽기 실패: " + e.getMessage());
+            return new WordPack(getDefaultWords(mode));
+        }
+    }
+
+    private List<String> getDefaultWords(GameMode mode) {
+        return switch (mode) {
+            case JAVA -> List.of(
+                    "public", "class", "extends", "implements", "void",
+                    "int", "boolean", "String", "final", "static",
+                    "private", "protected", "abstract", "try", "catch",
+                    "throw", "import", "return", "for", "while",
+                    "interface", "package", "synchronized", "volatile", "transient"
+            );
+            case PYTHON -> List.of(
+                    "def", "class", "import", "from", "as",
+                    "if", "elif", "else", "while", "for",
+                    "in", "try", "except", "finally", "with",
+                    "print", "lambda", "yield", "global", "nonlocal",
+                    "async", "await", "raise", "assert", "pass"
+            );
+            case KOTLIN -> List.of(
+                    "fun", "val", "var", "class", "object",
+                    "interface", "override", "private", "public", "protected",
+                    "data", "sealed", "companion", "init", "constructor",
+                    "suspend", "coroutine", "flow", "sequence", "lateinit"
+            );
+            case C -> List.of(
+                    "int", "char", "float", "double", "void",
+                    "long", "short", "signed", "unsigned", "struct",
+                    "union", "enum", "typedef", "const", "static",
+                    "extern", "register", "volatile", "sizeof", "switch"
+            );
+            default -> List.of("default", "word", "test");
+        };
+    }
+
+    // 단어 목록과 그 목록으로 만든 추출기, 항상 함께 교체함
+    private static final class Corpus {
+        private final WordPack pack;
+        private final WordSampler[] samplers;
+
+        Corpus(WordPack pack) {
+            this.pack = pack;
+            DifficultyLevel[] levels = DifficultyLevel.values();
+            this.samplers = new WordSampler[levels.length];
+            for (DifficultyLevel level : levels) {
+                samplers[level.ordinal()] = new WordSampler(pack, level);
+            }
+        }
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * server.game.WordPackImporter.java
+ * 텍스트 단어 목록을 정리해서 바이너리 단어 파일(WordPack.readBinary 형식)로 만드는 도구
+ * - 입력을 한 줄씩 읽고 바로 출력 파일에 씀 -> 파일 전체를 메모리에 올리지 않음, 단어 수/단어 길이에 상한을 둠
+ * - 정리와 검사는 .txt 를 바로 읽을 때와 같음 (WordPack.normalizeLine, WordPack.rejectReason)
+ *   빈 줄은 건너뛰고, 제어 문자가 있는 단어와 너무 긴 단어는 버림
+ * - 같은 단어가 여러 번 나와도 모두 남김 (순서 유지) -> 나온 횟수가 WordSampler 의 가중치이고, .txt 와 버전이 같음
+ *   --max-length 를 기본값(WordPack.MAX_WORD_LENGTH)과 다르게 주면 .txt 를 읽은 목록과 버전이 달라질 수 있음
+ * - 임시 파일에 다 쓴 뒤 이름을 바꿔 끼우므로, WordCorpus 가 반쯤 쓴 파일을 읽는 일이 없음
+ *
+ * 명령줄: java server.game.WordPackImporter [--max-length N] [--max-words N] <입력.txt> [출력.pack]
+ * 서버 시작 시: server.words.import=true 이면 WordCorpus 가 .pack 보다 새로운 .txt 를 다시 변환함 (importIfStale)
+ */
+
+package server.game;
+
+import game.model.GameMode;
+import game.model.WordPack;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import static java.nio.file.StandardOpenOption.WRITE;
+
+public final class WordPackImporter {
+    private static final Logger logger = Logger.getLogger(WordPackImporter.class.getName());
+    public static final int DEFAULT_MAX_WORD_LENGTH = WordPack.MAX_WORD_LENGTH;
+    public static final int DEFAULT_MAX_WORDS = 1_000_000;
+    // 버린 줄은 처음 몇 개만 로그에 남기고 나머지는 개수만 셈
+    private static final int MAX_REPORTED_REJECTS = 10;
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final int maxWordLength;
+    private final int maxWords;
+
+    public WordPackImporter() {
+        this(DEFAULT_MAX_WORD_LENGTH, DEFAULT_MAX_WORDS);
+    }
+
+    public WordPackImporter(int maxWordLength, int maxWords) {
+        if (maxWordLength < 1 || maxWordLength > 1024) {
+            throw new IllegalArgumentException("단어 최대 길이는 1-1024 사이여야 합니다: " + maxWordLength);
+        }
+        if (maxWords < 1) {
+            throw new IllegalArgumentException("최대 단어 수는 1 이상이어야 합니다: " + maxWords);
+        }
+        this.maxWordLength = maxWordLength;
+        this.maxWords = maxWords;
+    }
+
+    /**
+     * 모드의 텍스트 단어 파일이 바이너리 파일보다 새로우면(또는 바이너리 파일이 없으면) 다시 변환합니다.
+     *
+     * @return 변환했으면 true, 텍스트 파일이 없거나 바이너리 파일이 최신이면 false
+     */
+    public boolean importIfStale(GameMode mode) throws IOException {
+        Path source = WordPack.pathFor(mode);
+        Path target = WordPack.binaryPathFor(mode);
+        if (!Files.exists(source)) {
+            return false;
+        }
+        if (Files.exists(target)
+                && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) >= 0) {
+            return false;
+        }
+        Result result = importFile(source, target);
+        logger.info(mode.name() + " 단어 파일 변환: " + result);
+        return true;
+    }
+
+    public Result importFile(Path source, Path target) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            return importFrom(reader, target);
+        }
+    }
+
+    /**
+     * 단어 목록을 읽어 바이너리 단어 파일로 씁니다. 실패하면 target 은 바뀌지 않습니다.
+     *
+     * @throws IOException 읽기/쓰기 실패, 또는 단어 수가 상한을 넘는 경우
+     */
+    public Result importFrom(Reader source, Path target) throws IOException {
+        Path directory = target.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path temp = Files.createTempFile(directory, target.getFileName().toString(), ".tmp");
+        boolean moved = false;
+        try {
+            Result result;
+            try (FileChannel channel = FileChannel.open(temp, WRITE)) {
+                result = write(source, channel);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            moved = true;
+            return result;
+        } finally {
+            if (!moved) {
+                Files.deleteIfExists(temp);
+            }
+        }
+    }
+
+    // 헤더 자리를 비워 두고 본문을 쓴 뒤, 개수와 CRC32 가 정해지면 맨 앞에 헤더를 씀
+    private Result write(Reader source, FileChannel channel) throws IOException {
+        CRC32 crc = new CRC32();
+        ByteBuffer buffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
+        channel.position(WordPack.BINARY_HEADER_SIZE);
+
+        // 줄이 아무리 길어도 이만큼만 보관함 (앞뒤 공백을 지울 여유를 둠)
+        int lineLimit = maxWordLength * 4 + 64;
+        LineReader lines = new LineReader(source, lineLimit);
+        StringBuilder line = new StringBuilder(lineLimit);
+        int lineNumber = 0;
+        int wordCount = 0;
+        int charCount = 0;
+        long payloadLength = 0;
+        int rejected = 0;
+
+        int rawLength;
+        while ((rawLength = lines.read(line)) >= 0) {
+            lineNumber++;
+            String reason = null;
+            String word = null;
+            if (rawLength > lineLimit) {
+                reason = "너무 긴 단어";
+            } else {
+                word = WordPack.normalizeLine(line, lineNumber == 1);
+                if (word.isEmpty()) {
+                    continue;
+                }
+                reason = WordPack.rejectReason(word, maxWordLength);
+            }
+            if (reason != null) {
+                if (++rejected <= MAX_REPORTED_REJECTS) {
+                    logger.warning(lineNumber + "번째 줄 버림 (" + reason + ")");
+                }
+                continue;
+            }
+            if (++wordCount > maxWords) {
+                throw new IOException("단어가 " + maxWords + "개를 넘음 (" + lineNumber + "번째 줄)");
+            }
+
+            byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+            if (buffer.remaining() < bytes.length + 1) {
+                flush(buffer, channel, crc);
+            }
+            buffer.put(bytes).put((byte) '\n');
+            charCount += word.length();
+            payloadLength += bytes.length + 1;
+        }
+        flush(buffer, channel, crc);
+        if (payloadLength > Integer.MAX_VALUE - WordPack.BINARY_HEADER_SIZE) {
+            throw new IOException("단어 파일이 너무 큼: " + payloadLength + " 바이트");
+        }
+        if (rejected > MAX_REPORTED_REJECTS) {
+            logger.warning("그 밖에 " + (rejected - MAX_REPORTED_REJECTS) + "줄 더 버림");
+        }
+
+        int checksum = (int) crc.getValue();
+        ByteBuffer header = ByteBuffer.allocate(WordPack.BINARY_HEADER_SIZE)
+                .putInt(WordPack.BINARY_MAGIC)
+                .putShort(WordPack.BINARY_FORMAT_VERSION)
+                .putInt(wordCount)
+                .putInt(charCount)
+                .putInt((int) payloadLength)
+                .putInt(checksum)
+                .flip();
+        while (header.hasRemaining()) {
+            channel.write(header, header.position());
+        }
+        return new Result(wordCount, rejected, checksum);
+    }
+
+    private static void flush(ByteBuffer buffer, FileChannel channel, CRC32 crc) throws IOException {
+        buffer.flip();
+        crc.update(buffer.duplicate());
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // 길이 상한이 있는 줄 단위 읽기 (BufferedReader.readLine 은 아주 긴 줄을 통째로 메모리에 올림)
+    private static final class LineReader {
+        private final Reader reader;
+        private final int limit;
+        private final char[] buffer = new char[8192];
+        private int position;
+        private int end;
+
+        LineReader(Reader reader, int limit) {
+            this.reader = reader;
+            this.limit = limit;
+        }
+
+        /**
+         * 한 줄을 읽어 line 에 최대 limit 글자까지 담습니다. 줄 끝의 '\n', "\r\n" 은 빼고, 넘치는 글자는 버립니다.
+         *
+         * @return 줄의 실제 길이 (limit 보다 클 수 있음), 더 읽을 줄이 없으면 -1
+         */
+        int read(StringBuilder line) throws IOException {
+            line.setLength(0);
+            long length = 0;
+            boolean any = false;
+            while (true) {
+                if (position == end) {
+                    end = reader.read(buffer);
+                    position = 0;
+                    if (end <= 0) {
+                        end = 0;
+                        break;
+                    }
+                }
+                any = true;
+                int start = position;
+                while (position < end && buffer[position] != '\n') {
+                    position++;
+                }
+                int count = position - start;
+                if (length < limit) {
+                    line.append(buffer, start, (int) Math.min(count, limit - length));
+                }
+                length += count;
+                if (position < end) {
+                    position++; // '\n'
+                    break;
+                }
+            }
+            if (!any) {
+                return -1;
+            }
+            if (length <= limit && length > 0 && line.charAt(line.length() - 1) == '\r') {
+                line.setLength(line.length() - 1);
+                length--;
+            }
+            return (int) Math.min(length, Integer.MAX_VALUE);
+        }
+    }
+
+    public static final class Result {
+        private final int wordCount;
+        private final int rejected;
+        private final int checksum;
+
+        Result(int wordCount, int rejected, int checksum) {
+            this.wordCount = wordCount;
+            this.rejected = rejected;
+            this.checksum = checksum;
+        }
+
+        public int getWordCount() {
+            return wordCount;
+        }
+
+        public int getRejected() {
+            return rejected;
+        }
+
+        // 만든 단어 목록의 버전 (WordPack.getVersion 과 같은 값)
+        public int getChecksum() {
+            return checksum;
+        }
+
+        @Override
+        public String toString() {
+            return "단어 " + wordCount + "개, 버림 " + rejected + "개, 버전 " + checksum;
+        }
+    }
+
+    public static void main(String[] args) {
+        int maxWordLength = DEFAULT_MAX_WORD_LENGTH;
+        int maxWords = DEFAULT_MAX_WORDS;
+        int i = 0;
+        try {
+            for (; i < args.length && args[i].startsWith("--"); i += 2) {
+                if (i + 1 >= args.length) {
+                    throw new IllegalArgumentException(args[i] + " 뒤에 값이 필요합니다.");
+                }
+                switch (args[i]) {
+                    case "--max-length" -> maxWordLength = Integer.parseInt(args[i + 1]);
+                    case "--max-words" -> maxWords = Integer.parseInt(args[i + 1]);
+                    default -> throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+                }
+            }
+            if (i >= args.length || args.length - i > 2) {
+                throw new IllegalArgumentException("입력 파일을 지정하세요.");
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.err.println("사용법: java server.game.WordPackImporter [--max-length N] [--max-words N] <입력.txt> [출력.pack]");
+            System.exit(2);
+            return;
+        }
+
+        Path source = Paths.get(args[i]);
+        Path target = i + 1 < args.length ? Paths.get(args[i + 1]) : defaultTarget(source);
+        try {
+            Result result = new WordPackImporter(maxWordLength, maxWords).importFile(source, target);
+            System.out.println(target + ": " + result);
+        } catch (IOException | IllegalArgumentException e) {
+            System.err.println("단어 파일 변환 실패: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    // words_java.txt -> words_java.pack
+    private static Path defaultTarget(Path source) {
+        String name = source.getFileName().toString();
+        int dot = name.lastIndexOf('.');
+        return source.resolveSibling((dot > 0 ? name.substring(0, dot) : name) + ".pack");
+    }
+}
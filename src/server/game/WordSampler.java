@@ -0,0 +1,118 @@
+/*
+ * server.game.WordSampler.java
+ * 단어 목록 하나와 난이도 하나에 대한 가중치 단어 추출기 (alias method)
+ * - 단어마다 가중치를 정하고, 표(확률 + 대체 단어)를 미리 만들어 두면 단어 수와 상관없이 난수 두 개로 O(1) 에 뽑음
+ * - 가중치 = 목록에 나온 횟수(자주 쓰는 단어는 목록에 여러 번 들어 있음) x 난이도별 길이 가중치
+ *   EASY 는 짧은 단어, HARD 는 긴 단어가 더 자주 나오고, MEDIUM 은 길이와 상관없음
+ * - 만든 뒤에는 바뀌지 않으므로 여러 방이 같이 씀, 난수 생성기는 호출하는 쪽(방)이 가짐
+ */
+
+package server.game;
+
+import game.model.DifficultyLevel;
+import game.model.WordPack;
+
+import java.util.SplittableRandom;
+
+public final class WordSampler {
+    private final WordPack pack;
+    // 칸 i 에서 words[i] 를 뽑을 확률, 아니면 words[alias[i]] 를 뽑음
+    private final float[] probability;
+    private final int[] alias;
+    // 칸별 단어 번호 (WordPack.canonicalIndex, 중복 없이)
+    private final int[] words;
+
+    public WordSampler(WordPack pack, DifficultyLevel difficulty) {
+        this.pack = pack;
+
+        // 같은 단어는 첫 번호에 가중치를 모음
+        double[] weightByIndex = new double[pack.size()];
+        int distinct = 0;
+        for (int i = 0; i < pack.size(); i++) {
+            int first = pack.canonicalIndex(i);
+            if (weightByIndex[first] == 0) {
+                distinct++;
+            }
+            weightByIndex[first] += lengthWeight(difficulty, pack.length(first));
+        }
+
+        this.words = new int[distinct];
+        double[] scaled = new double[distinct];
+        double total = 0;
+        for (int i = 0, column = 0; i < pack.size(); i++) {
+            if (weightByIndex[i] > 0) {
+                words[column] = i;
+                scaled[column] = weightByIndex[i];
+                total += weightByIndex[i];
+                column++;
+            }
+        }
+
+        this.probability = new float[distinct];
+        this.alias = new int[distinct];
+        build(scaled, total);
+    }
+
+    public WordPack getPack() {
+        return pack;
+    }
+
+    /**
+     * 단어를 하나 뽑습니다.
+     *
+     * @return 단어 번호 (WordPack.canonicalIndex 기준), 목록이 비어 있으면 -1
+     */
+    public int sample(SplittableRandom random) {
+        if (words.length == 0) {
+            return -1;
+        }
+        int column = random.nextInt(words.length);
+        return random.nextFloat() < probability[column] ? words[column] : words[alias[column]];
+    }
+
+    private static double lengthWeight(DifficultyLevel difficulty, int length) {
+        int n = Math.max(1, length);
+        return switch (difficulty) {
+            case EASY -> 1.0 / n;
+            case MEDIUM -> 1.0;
+            case HARD -> n;
+        };
+    }
+
+    // Vose 의 alias 표 만들기, 평균이 1 이 되도록 맞춘 가중치를 1 보다 작은 칸과 큰 칸으로 나눠 짝지음
+    private void build(double[] scaled, double total) {
+        int n = scaled.length;
+        int[] small = new int[n];
+        int[] large = new int[n];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < n; i++) {
+            scaled[i] = scaled[i] * n / total;
+            if (scaled[i] < 1.0) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+
+        while (smallCount > 0 && largeCount > 0) {
+            int less = small[--smallCount];
+            int more = large[--largeCount];
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            if (scaled[more] < 1.0) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // 남은 칸은 (부동 소수점 오차를 빼면) 가중치가 정확히 1
+        while (largeCount > 0) {
+            probability[large[--largeCount]] = 1.0f;
+        }
+        while (smallCount > 0) {
+            probability[small[--smallCount]] = 1.0f;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * server.network.AbstractConnection.java
+ * SocketConnection, NioConnection 이 공통으로 사용하는 송신 처리
+ * - 메시지를 연결의 전송 형식(텍스트/바이너리)으로 인코딩해 송신 대기열에 넣고 writer 를 깨움
+ *   인코딩 결과는 OutboundMessage 에 캐시되므로 브로드캐스트는 수신자 수와 상관없이 한 번만 인코딩함
+ * - 현재 스레드에 WriteBatch 가 열려 있으면 대기열 대신 배치에 모아 두었다가,
+ *   배치가 끝날 때 연결마다 한 번에 대기열에 넣음 (sendNow 는 배치를 거치지 않음)
+ * - 인코딩과 대기열 등록은 sendLock 안에서 하므로, 전송 형식이 바뀌는 시점을 기준으로
+ *   앞의 메시지는 이전 형식, 뒤의 메시지는 새 형식으로 순서대로 나감
+ */
+
+package server.network;
+
+import game.protocol.WireFormat;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+abstract class AbstractConnection implements Connection {
+    private static final Logger logger = Logger.getLogger(AbstractConnection.class.getName());
+
+    protected final OutboundQueue outbound;
+    protected final FrameDecoder decoder = new FrameDecoder(FrameDecoder.DEFAULT_MAX_FRAME_LENGTH);
+    private final ReentrantLock sendLock = new ReentrantLock();
+    private volatile WireFormat wireFormat = WireFormat.TEXT;
+
+    protected AbstractConnection(OutboundLimits limits) {
+        this.outbound = new OutboundQueue(limits);
+    }
+
+    @Override
+    public boolean send(String message) {
+        return send(OutboundMessage.of(message));
+    }
+
+    @Override
+    public boolean send(OutboundMessage message) {
+        if (!isOpen()) {
+            return false;
+        }
+
+        WriteStats.recordMessage();
+
+        WriteBatch batch = WriteBatch.current();
+        if (batch != null) {
+            batch.append(this, message);
+            return true;
+        }
+        return enqueueNow(message);
+    }
+
+    @Override
+    public boolean sendNow(OutboundMessage message) {
+        if (!isOpen()) {
+            return false;
+        }
+        WriteStats.recordMessage();
+        return enqueueNow(message);
+    }
+
+    private boolean enqueueNow(OutboundMessage message) {
+        sendLock.lock();
+        try {
+            return enqueue(message.buffer(wireFormat));
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    // 배치에 모인 메시지를 현재 전송 형식으로 대기열에 넣음
+    boolean sendAll(List<OutboundMessage> messages) {
+        sendLock.lock();
+        try {
+            return enqueueAll(messages);
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public void switchOutboundFormat(WireFormat format, String ackMessage) {
+        sendLock.lock();
+        try {
+            // 현재 스레드의 배치에 남아 있는 메시지와 ack 는 이전 형식으로 먼저 내보냄
+            List<OutboundMessage> messages = new ArrayList<>();
+            WriteBatch batch = WriteBatch.current();
+            if (batch != null) {
+                List<OutboundMessage> pending = batch.remove(this);
+                if (pending != null) {
+                    messages.addAll(pending);
+                }
+            }
+            if (ackMessage != null) {
+                WriteStats.recordMessage();
+                messages.add(OutboundMessage.of(ackMessage));
+            }
+            if (!messages.isEmpty()) {
+                enqueueAll(messages);
+            }
+
+            wireFormat = format;
+        } finally {
+            sendLock.unlock();
+        }
+    }
+
+    @Override
+    public void switchInboundFormat(WireFormat format) {
+        decoder.setFormat(format);
+    }
+
+    @Override
+    public WireFormat getOutboundFormat() {
+        return wireFormat;
+    }
+
+    // 공유 버퍼를 메시지별로 대기열에 넣고 writer 는 한 번만 깨움
+    // 여러 버퍼는 writer 가 한 번의 write 로 모아서 씀 (NIO gathering write, 소켓은 쓰기 버퍼에 모음)
+    private boolean enqueueAll(List<OutboundMessage> messages) {
+        boolean queued = false;
+        for (OutboundMessage message : messages) {
+            switch (offer(message.buffer(wireFormat))) {
+                case QUEUED -> queued = true;
+                case DROPPED -> { }
+                case OVERFLOW -> {
+                    return false;
+                }
+            }
+        }
+        if (queued) {
+            wakeWriter();
+        }
+        return true;
+    }
+
+    /**
+     * 인코딩된 바이트를 송신 대기열에 넣고 writer 를 깨웁니다.
+     * 한도를 넘은 느린 클라이언트는 여기서 연결을 끊습니다.
+     *
+     * @param buffer 하나 이상의 완성된 메시지가 담긴 버퍼
+     * @return 대기열에 넣었거나 DROP 정책으로 버렸으면 true, 연결을 끊었으면 false
+     */
+    boolean enqueue(ByteBuffer buffer) {
+        OutboundQueue.Result result = offer(buffer);
+        if (result == OutboundQueue.Result.QUEUED) {
+            wakeWriter();
+        }
+        return result != OutboundQueue.Result.OVERFLOW;
+    }
+
+    // 대기열에 넣기만 하고 writer 는 깨우지 않음, 한도를 넘은 연결은 끊음
+    private OutboundQueue.Result offer(ByteBuffer buffer) {
+        OutboundQueue.Result result = outbound.offer(buffer);
+        switch (result) {
+            case QUEUED -> { }
+            case DROPPED -> logger.fine("송신 대기열 초과로 메시지 버림: " + getRemoteAddress());
+            case OVERFLOW -> {
+                logger.warning("느린 클라이언트 연결 종료: " + getRemoteAddress() +
+                        " (대기 중 " + outbound.getQueuedBytes() + " bytes)");
+                close();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean closeIfStalled() {
+        if (!isOpen() || !outbound.isStalled(System.currentTimeMillis())) {
+            return false;
+        }
+        logger.warning("송신 대기열이 줄지 않는 클라이언트 연결 종료: " + getRemoteAddress() +
+                " (대기 중 " + outbound.getQueuedBytes() + " bytes)");
+        close();
+        return true;
+    }
+
+    // 대기열에 새 데이터가 들어왔음을 writer(전용 스레드 또는 이벤트 루프)에 알림
+    protected abstract void wakeWriter();
+}
@@ -0,0 +1,68 @@
+/*
+ * server.network.Connection.java
+ * 클라이언트 한 명과의 전송 계층을 추상화한 인터페이스
+ * ClientHandler 는 연결 방식(블로킹 소켓, NIO)과 상관없이 이 인터페이스로만 메시지를 내보냄
+ */
+
+package server.network;
+
+import game.protocol.WireFormat;
+
+public interface Connection {
+    /**
+     * 한 줄짜리 메시지를 전송합니다. 줄바꿈은 구현체가 붙입니다.
+     *
+     * @param message 전송할 메시지
+     * @return 전송(또는 전송 대기열 등록)에 성공했으면 true
+     */
+    boolean send(String message);
+
+    /**
+     * 미리 만들어 둔 메시지를 전송합니다. 여러 연결에 같은 메시지를 보낼 때 사용하며,
+     * 인코딩 결과는 메시지에 캐시되어 연결 사이에서 공유됩니다.
+     *
+     * @param message 전송할 메시지
+     * @return 전송(또는 전송 대기열 등록)에 성공했으면 true
+     */
+    boolean send(OutboundMessage message);
+
+    /**
+     * 현재 스레드에 WriteBatch 가 열려 있어도 배치에 모으지 않고 바로 송신 대기열에 넣습니다.
+     * 락 안에서 순서를 정한 메시지를 그 순서 그대로 내보낼 때 사용합니다. 대기열에 넣기만 하므로 막히지 않습니다.
+     *
+     * @param message 전송할 메시지
+     * @return 대기열 등록에 성공했으면 true
+     */
+    boolean sendNow(OutboundMessage message);
+
+    /**
+     * 보내는 메시지의 전송 형식을 바꿉니다.
+     * ackMessage 는 이전 형식으로 먼저 보내고, 그 뒤로 보내는 메시지는 새 형식을 따릅니다.
+     *
+     * @param format 새 전송 형식
+     * @param ackMessage 이전 형식으로 보낼 응답, 없으면 null
+     */
+    void switchOutboundFormat(WireFormat format, String ackMessage);
+
+    /**
+     * 받는 프레임의 전송 형식을 바꿉니다. 읽기 스레드에서 메시지를 처리하는 도중에 호출해야 하며,
+     * 지금 처리 중인 프레임 다음 바이트부터 새 형식으로 읽습니다.
+     */
+    void switchInboundFormat(WireFormat format);
+
+    WireFormat getOutboundFormat();
+
+    boolean isOpen();
+
+    /**
+     * DISCONNECT 정책에서 송신 대기열이 stall timeout 보다 오래 high watermark 위에 있으면 연결을 끊습니다.
+     * 대기열은 메시지를 넣을 때도 확인하지만, 더 보낼 메시지가 없는 연결은 이 호출로만 끊깁니다.
+     *
+     * @return 이번 호출에서 연결을 끊었으면 true
+     */
+    boolean closeIfStalled();
+
+    void close();
+
+    String getRemoteAddress();
+}
@@ -0,0 +1,15 @@
+/*
+ * server.network.ConnectionListener.java
+ * 논블로킹 연결에서 완성된 프레임과 연결 종료를 전달받기 위한 리스너 인터페이스
+ * 프레임은 전송 형식(텍스트/바이너리)과 상관없이 MessageReader 로 전달됨
+ */
+
+package server.network;
+
+import game.protocol.MessageReader;
+
+public interface ConnectionListener {
+    void onMessage(MessageReader message);
+
+    void onClosed();
+}
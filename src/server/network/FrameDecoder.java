@@ -0,0 +1,129 @@
+/*
+ * server.network.FrameDecoder.java
+ * 바이트 스트림을 메시지 프레임으로 잘라내는 디코더
+ * - TEXT: '\n' 단위의 줄. UTF-8 멀티바이트 문자에는 0x0A 가 나오지 않으므로 바이트 단계에서 잘라도 안전함
+ *         BufferedReader.readLine 과 같이 줄 끝의 '\r' 은 제거함
+ * - BINARY: varint 길이 + 본문
+ * 프레임마다 형식을 다시 확인하므로, 리스너가 LOGIN 처리 중에 형식을 바꾸면
+ * 같은 버퍼에 남은 바이트부터 바로 새 형식으로 읽음
+ */
+
+package server.network;
+
+import game.protocol.BinaryCodec;
+import game.protocol.MessageReader;
+import game.protocol.TextMessageReader;
+import game.protocol.WireFormat;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+public class FrameDecoder {
+    public static final int DEFAULT_MAX_FRAME_LENGTH = BinaryCodec.MAX_FRAME_LENGTH;
+
+    private final int maxFrameLength;
+    private WireFormat format = WireFormat.TEXT;
+    private byte[] frame = new byte[256];
+    private int length = 0;
+    // BINARY: 읽어야 할 본문 길이, 길이를 읽는 중이면 -1
+    private int frameLength = -1;
+    private int lengthShift = 0;
+    // 텍스트 줄은 frame 위에서 바로 읽음, 리더는 리스너 호출이 끝날 때까지만 유효함
+    private final TextMessageReader textReader = new TextMessageReader();
+
+    public FrameDecoder(int maxFrameLength) {
+        this.maxFrameLength = maxFrameLength;
+    }
+
+    // 읽기 스레드(리스너 호출 중 포함)에서만 호출해야 함
+    public void setFormat(WireFormat format) {
+        this.format = format;
+        this.length = 0;
+        this.frameLength = -1;
+        this.lengthShift = 0;
+    }
+
+    /**
+     * 버퍼의 남은 바이트를 모두 소비하고, 완성된 프레임마다 리스너를 호출합니다.
+     *
+     * @param in 읽기 모드(flip 된) 버퍼
+     * @param listener 완성된 프레임을 받을 리스너
+     * @throws IOException 프레임이 최대 길이를 넘거나 형식이 잘못된 경우
+     */
+    public void decode(ByteBuffer in, ConnectionListener listener) throws IOException {
+        while (in.hasRemaining()) {
+            if (format == WireFormat.BINARY) {
+                decodeBinary(in, listener);
+            } else {
+                decodeLine(in, listener);
+            }
+        }
+    }
+
+    // 줄 하나가 끝나거나 버퍼가 빌 때까지 읽음
+    private void decodeLine(ByteBuffer in, ConnectionListener listener) throws IOException {
+        while (in.hasRemaining()) {
+            byte b = in.get();
+            if (b == '\n') {
+                int end = length;
+                if (end > 0 && frame[end - 1] == '\r') {
+                    end--;
+                }
+                length = 0;
+                listener.onMessage(textReader.reset(frame, 0, end));
+                return;
+            }
+            ensureCapacity(length + 1);
+            frame[length++] = b;
+        }
+    }
+
+    // 프레임 하나가 끝나거나 버퍼가 빌 때까지 읽음
+    private void decodeBinary(ByteBuffer in, ConnectionListener listener) throws IOException {
+        while (frameLength < 0) {
+            if (!in.hasRemaining()) {
+                return;
+            }
+            byte b = in.get();
+            length |= (b & 0x7F) << lengthShift;
+            lengthShift += 7;
+            if ((b & 0x80) == 0) {
+                if (length <= 0 || length > maxFrameLength) {
+                    throw new IOException("잘못된 프레임 길이: " + length);
+                }
+                frameLength = length;
+                length = 0;
+                lengthShift = 0;
+                ensureCapacity(frameLength);
+            } else if (lengthShift > 28) {
+                throw new IOException("잘못된 프레임 길이입니다.");
+            }
+        }
+
+        int count = Math.min(in.remaining(), frameLength - length);
+        in.get(frame, length, count);
+        length += count;
+        if (length == frameLength) {
+            int size = frameLength;
+            length = 0;
+            frameLength = -1;
+            MessageReader reader;
+            try {
+                reader = BinaryCodec.reader(frame, 0, size);
+            } catch (IllegalArgumentException e) {
+                throw new IOException("잘못된 프레임입니다: " + e.getMessage(), e);
+            }
+            listener.onMessage(reader);
+        }
+    }
+
+    private void ensureCapacity(int capacity) throws IOException {
+        if (capacity > maxFrameLength) {
+            throw new IOException("프레임 길이 초과: " + maxFrameLength + " bytes");
+        }
+        if (capacity > frame.length) {
+            frame = Arrays.copyOf(frame, Math.max(capacity, Math.min(frame.length * 2, maxFrameLength)));
+        }
+    }
+}
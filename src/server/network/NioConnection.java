@@ -0,0 +1,179 @@
+/*
+ * server.network.NioConnection.java
+ * NIO 이벤트 루프에 등록된 논블로킹 연결
+ * - 읽기/쓰기는 항상 소유한 이벤트 루프 스레드에서만 수행
+ * - send 는 어느 스레드에서나 호출할 수 있으며, 송신 대기열에 넣은 뒤 이벤트 루프에 flush 를 요청함
+ *   (이 연결의 writer 는 소유한 이벤트 루프)
+ * - 대기열에 쌓인 버퍼는 gathering write 로 한 번에 씀
+ */
+
+package server.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.SocketChannel;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+public class NioConnection extends AbstractConnection {
+    private static final Logger logger = Logger.getLogger(NioConnection.class.getName());
+    // gathering write 한 번에 넘길 최대 버퍼 수
+    private static final int MAX_GATHER = 16;
+
+    private final SocketChannel channel;
+    private final NioEventLoop eventLoop;
+    private final String remoteAddress;
+    private final AtomicBoolean flushScheduled = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private ConnectionListener listener;
+    private SelectionKey key;
+    // 대기열에서 꺼냈지만 아직 다 쓰지 못한 버퍼들 (이벤트 루프 스레드 전용)
+    private final ByteBuffer[] gather = new ByteBuffer[MAX_GATHER];
+    private int gatherCount = 0;
+
+    public NioConnection(SocketChannel channel, NioEventLoop eventLoop, OutboundLimits limits) {
+        super(limits);
+        this.channel = channel;
+        this.eventLoop = eventLoop;
+        String address;
+        try {
+            address = String.valueOf(channel.getRemoteAddress());
+        } catch (IOException e) {
+            address = "unknown";
+        }
+        this.remoteAddress = address;
+    }
+
+    public void setListener(ConnectionListener listener) {
+        this.listener = listener;
+    }
+
+    @Override
+    protected void wakeWriter() {
+        if (flushScheduled.compareAndSet(false, true)) {
+            eventLoop.execute(this::flush);
+        }
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed.get();
+    }
+
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            eventLoop.execute(this::closeNow);
+        }
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+
+    NioEventLoop getEventLoop() {
+        return eventLoop;
+    }
+
+    SocketChannel getChannel() {
+        return channel;
+    }
+
+    /*
+     * 아래 메서드들은 이벤트 루프 스레드에서만 호출됨
+     */
+
+    void register(SelectionKey key) {
+        this.key = key;
+        if (!outbound.isEmpty() || gatherCount > 0) {
+            flush();
+        }
+    }
+
+    void handleRead(ByteBuffer readBuffer) {
+        try {
+            int read = channel.read(readBuffer);
+            if (read < 0) {
+                close();
+                return;
+            }
+            readBuffer.flip();
+            decoder.decode(readBuffer, listener);
+        } catch (IOException e) {
+            if (!closed.get()) {
+                logger.warning("클라이언트와의 연결 종료: " + e.getMessage());
+            }
+            close();
+        } finally {
+            readBuffer.clear();
+        }
+    }
+
+    void flush() {
+        flushScheduled.set(false);
+        if (key == null || !key.isValid()) {
+            return; // 등록 전이라면 register 에서 다시 flush 함
+        }
+
+        try {
+            while (true) {
+                while (gatherCount < MAX_GATHER) {
+                    ByteBuffer buffer = outbound.poll();
+                    if (buffer == null) {
+                        break;
+                    }
+                    gather[gatherCount++] = buffer;
+                }
+                if (gatherCount == 0) {
+                    break;
+                }
+
+                channel.write(gather, 0, gatherCount);
+                WriteStats.recordWrite();
+
+                // 다 쓴 버퍼는 대기열에서 정산하고, 남은 버퍼를 앞으로 당김
+                int done = 0;
+                while (done < gatherCount && !gather[done].hasRemaining()) {
+                    outbound.written(gather[done]);
+                    done++;
+                }
+                System.arraycopy(gather, done, gather, 0, gatherCount - done);
+                Arrays.fill(gather, gatherCount - done, gatherCount, null);
+                gatherCount -= done;
+
+                if (gatherCount > 0) {
+                    // 소켓 송신 버퍼가 가득 참 -> 쓰기 가능해질 때까지 대기
+                    key.interestOps(SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+                    return;
+                }
+            }
+            key.interestOps(SelectionKey.OP_READ);
+        } catch (IOException e) {
+            if (!closed.get()) {
+                logger.warning("메시지 전송 실패: " + e.getMessage());
+            }
+            close();
+        }
+    }
+
+    private void closeNow() {
+        try {
+            if (key != null) {
+                key.cancel();
+            }
+            channel.close();
+        } catch (IOException e) {
+            logger.severe("리소스 정리 중 오류 발생: " + e.getMessage());
+        } finally {
+            Arrays.fill(gather, null);
+            gatherCount = 0;
+            outbound.clear();
+            if (listener != null) {
+                listener.onClosed();
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * server.network.NioEventLoop.java
+ * Selector 하나를 돌리는 I/O 루프
+ * 여러 연결의 읽기/쓰기를 스레드 하나가 처리하며, 다른 스레드의 요청은 작업 큐를 통해 넘겨받음
+ */
+
+package server.network;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.logging.Logger;
+
+public final class NioEventLoop implements Runnable {
+    private static final Logger logger = Logger.getLogger(NioEventLoop.class.getName());
+    private static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private final Selector selector;
+    private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+    private final ByteBuffer readBuffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    public NioEventLoop(String name) throws IOException {
+        this.selector = Selector.open();
+        this.thread = new Thread(this, name);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * 연결을 이 루프에 등록합니다. 실제 등록은 루프 스레드에서 이루어집니다.
+     *
+     * @param connection 등록할 연결
+     */
+    public void register(NioConnection connection) {
+        execute(() -> {
+            try {
+                SelectionKey key = connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+                connection.register(key);
+            } catch (IOException e) {
+                logger.severe("채널 등록 실패: " + e.getMessage());
+                connection.close();
+            }
+        });
+    }
+
+    public void execute(Runnable task) {
+        tasks.offer(task);
+        if (Thread.currentThread() != thread) {
+            selector.wakeup();
+        }
+    }
+
+    @Override
+    public void run() {
+        while (running) {
+            try {
+                selector.select();
+                processSelectedKeys();
+                runTasks();
+            } catch (IOException e) {
+                if (running) {
+                    logger.severe("I/O 루프 오류: " + e.getMessage());
+                }
+            } catch (Exception e) {
+                logger.severe("I/O 루프 처리 중 오류: " + e.getMessage());
+            }
+        }
+        closeAll();
+    }
+
+    private void processSelectedKeys() {
+        Iterator<SelectionKey> iterator = selector.selectedKeys().iterator();
+        while (iterator.hasNext()) {
+            SelectionKey key = iterator.next();
+            iterator.remove();
+
+            NioConnection connection = (NioConnection) key.attachment();
+            if (key.isValid() && key.isWritable()) {
+                connection.flush();
+            }
+            if (key.isValid() && key.isReadable()) {
+                connection.handleRead(readBuffer);
+            }
+        }
+    }
+
+    private void runTasks() {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            try {
+                task.run();
+            } catch (Exception e) {
+                logger.severe("I/O 루프 작업 처리 중 오류: " + e.getMessage());
+            }
+        }
+    }
+
+    private void closeAll() {
+        runTasks();
+        for (SelectionKey key : selector.keys()) {
+            ((NioConnection) key.attachment()).close();
+        }
+        runTasks();
+        try {
+            selector.close();
+        } catch (IOException e) {
+            logger.severe("Selector 종료 중 오류: " + e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        running = false;
+        selector.wakeup();
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * server.network.NioEventLoopGroup.java
+ * 고정된 개수의 NioEventLoop 를 묶어 관리하는 클래스
+ * 새 연결은 라운드 로빈으로 루프에 배정됨
+ */
+
+package server.network;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class NioEventLoopGroup {
+    private final NioEventLoop[] loops;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public NioEventLoopGroup(int size) throws IOException {
+        if (size < 1) {
+            throw new IllegalArgumentException("I/O 루프 개수는 1 이상이어야 합니다: " + size);
+        }
+        loops = new NioEventLoop[size];
+        for (int i = 0; i < size; i++) {
+            loops[i] = new NioEventLoop("nio-io-" + i);
+        }
+    }
+
+    public void start() {
+        for (NioEventLoop loop : loops) {
+            loop.start();
+        }
+    }
+
+    /**
+     * 채널을 논블로킹으로 전환하고 다음 루프에 배정한 연결 객체를 만듭니다.
+     * 반환된 연결은 리스너를 설정한 뒤 {@link #register(NioConnection)} 로 등록해야 합니다.
+     */
+    public NioConnection newConnection(SocketChannel channel, OutboundLimits limits) throws IOException {
+        channel.configureBlocking(false);
+        NioEventLoop loop = loops[Math.floorMod(next.getAndIncrement(), loops.length)];
+        return new NioConnection(channel, loop, limits);
+    }
+
+    public void register(NioConnection connection) {
+        connection.getEventLoop().register(connection);
+    }
+
+    public int size() {
+        return loops.length;
+    }
+
+    public void shutdown() {
+        for (NioEventLoop loop : loops) {
+            loop.shutdown();
+        }
+    }
+}
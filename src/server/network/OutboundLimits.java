@@ -0,0 +1,67 @@
+/*
+ * server.network.OutboundLimits.java
+ * 연결별 송신 대기열의 한도 설정
+ */
+
+package server.network;
+
+import server.ServerConfig;
+
+public class OutboundLimits {
+    private static final int DEFAULT_HIGH_WATERMARK = 256 * 1024;
+    private static final int DEFAULT_LOW_WATERMARK = 64 * 1024;
+    private static final long DEFAULT_STALL_TIMEOUT_MS = 5000;
+
+    private final int highWatermark;
+    private final int lowWatermark;
+    private final SlowConsumerPolicy policy;
+    private final long stallTimeoutMillis;
+
+    public OutboundLimits(int highWatermark, int lowWatermark,
+                          SlowConsumerPolicy policy, long stallTimeoutMillis) {
+        if (lowWatermark < 0 || lowWatermark > highWatermark) {
+            throw new IllegalArgumentException("watermark 설정이 잘못되었습니다: low=" + lowWatermark +
+                    ", high=" + highWatermark);
+        }
+        this.highWatermark = highWatermark;
+        this.lowWatermark = lowWatermark;
+        this.policy = policy;
+        this.stallTimeoutMillis = stallTimeoutMillis;
+    }
+
+    public static OutboundLimits fromConfig() {
+        return new OutboundLimits(
+                ServerConfig.getInt(ServerConfig.OUTBOUND_HIGH_WATERMARK, DEFAULT_HIGH_WATERMARK),
+                ServerConfig.getInt(ServerConfig.OUTBOUND_LOW_WATERMARK, DEFAULT_LOW_WATERMARK),
+                SlowConsumerPolicy.fromString(ServerConfig.getProperty(
+                        ServerConfig.OUTBOUND_POLICY, SlowConsumerPolicy.DISCONNECT.name())),
+                ServerConfig.getLong(ServerConfig.OUTBOUND_STALL_TIMEOUT, DEFAULT_STALL_TIMEOUT_MS));
+    }
+
+    public int getHighWatermark() {
+        return highWatermark;
+    }
+
+    public int getLowWatermark() {
+        return lowWatermark;
+    }
+
+    // 정책과 상관없이 이 이상 쌓이면 메모리 보호를 위해 즉시 처리함
+    public int getHardLimit() {
+        return highWatermark * 2;
+    }
+
+    public SlowConsumerPolicy getPolicy() {
+        return policy;
+    }
+
+    public long getStallTimeoutMillis() {
+        return stallTimeoutMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "high=" + highWatermark + ", low=" + lowWatermark +
+                ", policy=" + policy + ", stallTimeout=" + stallTimeoutMillis + "ms";
+    }
+}
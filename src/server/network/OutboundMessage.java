@@ -0,0 +1,66 @@
+/*
+ * server.network.OutboundMessage.java
+ * 여러 연결에 보내는 메시지를 한 번만 인코딩해서 공유하는 불변 객체
+ * - 전송 형식(텍스트/바이너리)별 인코딩 결과를 처음 필요할 때 만들어 캐시함
+ * - 브로드캐스트는 메시지 하나를 만들어 모든 수신자에게 넘기고, 각 연결은 같은 바이트 배열을
+ *   감싼 ByteBuffer 만 대기열에 넣음 -> 수신자 수와 상관없이 UTF-8/바이너리 인코딩은 한 번
+ * 인코딩된 배열은 여러 연결의 writer 가 동시에 읽으므로 절대 수정하면 안 됨
+ */
+
+package server.network;
+
+import game.protocol.BinaryCodec;
+import game.protocol.WireFormat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public final class OutboundMessage {
+    private final String text;
+    // 여러 스레드가 동시에 만들어도 결과가 같으므로 잠금 없이 캐시함
+    private volatile byte[] textBytes;
+    private volatile byte[] binaryBytes;
+
+    private OutboundMessage(String text) {
+        this.text = text;
+    }
+
+    public static OutboundMessage of(String text) {
+        return new OutboundMessage(text);
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 전송 형식에 맞게 인코딩된 바이트(줄바꿈 또는 길이 포함)를 반환합니다.
+     * 반환된 배열은 공유되므로 수정하면 안 됩니다.
+     */
+    public byte[] encoded(WireFormat format) {
+        if (format == WireFormat.BINARY) {
+            byte[] bytes = binaryBytes;
+            if (bytes == null) {
+                bytes = BinaryCodec.encode(text);
+                binaryBytes = bytes;
+            }
+            return bytes;
+        }
+        byte[] bytes = textBytes;
+        if (bytes == null) {
+            bytes = (text + "\n").getBytes(StandardCharsets.UTF_8);
+            textBytes = bytes;
+        }
+        return bytes;
+    }
+
+    // 연결마다 위치(position)가 따로 필요하므로 공유 배열을 감싼 새 버퍼를 만듦
+    ByteBuffer buffer(WireFormat format) {
+        return ByteBuffer.wrap(encoded(format));
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * server.network.OutboundQueue.java
+ * 연결 하나가 소유하는 송신 대기열
+ * - 메시지를 보내는 쪽(게임 스케줄러, 다른 클라이언트의 스레드)은 대기열에 넣기만 하고 바로 돌아감
+ * - 실제 소켓 쓰기는 연결의 writer(전용 스레드 또는 NIO 루프)가 대기열을 비우면서 수행함
+ * - 쌓인 바이트 수로 high/low watermark 를 관리하고, 느린 클라이언트는 정책(DROP/DISCONNECT)에 따라 처리함
+ *   DISCONNECT 의 stall timeout 은 offer 할 때와, 더 보낼 메시지가 없는 연결을 위해 서버가 주기적으로 (isStalled) 확인함
+ */
+
+package server.network;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OutboundQueue {
+    public enum Result {
+        QUEUED,   // 대기열에 들어감
+        DROPPED,  // DROP 정책으로 버려짐
+        OVERFLOW  // 한도를 넘어 연결을 끊어야 함
+    }
+
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedBytes = new AtomicInteger();
+    private final OutboundLimits limits;
+    // high watermark 를 넘은 시각, 넘지 않은 상태면 -1
+    private volatile long overLimitSince = -1;
+    private final AtomicInteger droppedMessages = new AtomicInteger();
+
+    public OutboundQueue(OutboundLimits limits) {
+        this.limits = limits;
+    }
+
+    public Result offer(ByteBuffer buffer) {
+        int size = buffer.remaining();
+        int queued = queuedBytes.get();
+
+        if (queued + size > limits.getHardLimit()) {
+            return Result.OVERFLOW;
+        }
+
+        if (overLimitSince >= 0) {
+            if (limits.getPolicy() == SlowConsumerPolicy.DROP) {
+                droppedMessages.incrementAndGet();
+                return Result.DROPPED;
+            }
+            if (isStalled(System.currentTimeMillis())) {
+                return Result.OVERFLOW;
+            }
+        }
+
+        buffers.offer(buffer);
+        if (queuedBytes.addAndGet(size) > limits.getHighWatermark() && overLimitSince < 0) {
+            overLimitSince = System.currentTimeMillis();
+        }
+        return Result.QUEUED;
+    }
+
+    public ByteBuffer peek() {
+        return buffers.peek();
+    }
+
+    /**
+     * 맨 앞의 버퍼를 꺼냅니다. writer 는 버퍼를 다 쓴 뒤 반드시 {@link #written(ByteBuffer)} 를 호출해야 합니다.
+     */
+    public ByteBuffer poll() {
+        return buffers.poll();
+    }
+
+    public void written(ByteBuffer buffer) {
+        if (queuedBytes.addAndGet(-buffer.limit()) <= limits.getLowWatermark()) {
+            overLimitSince = -1;
+        }
+    }
+
+    public boolean isEmpty() {
+        return buffers.isEmpty();
+    }
+
+    public int getQueuedBytes() {
+        return queuedBytes.get();
+    }
+
+    public boolean isOverHighWatermark() {
+        return overLimitSince >= 0;
+    }
+
+    // DISCONNECT 정책에서 high watermark 위에 stall timeout 보다 오래 머물렀으면 true
+    public boolean isStalled(long now) {
+        long since = overLimitSince;
+        return since >= 0 && limits.getPolicy() == SlowConsumerPolicy.DISCONNECT
+                && now - since > limits.getStallTimeoutMillis();
+    }
+
+    // DROP 정책으로 지금까지 버려진 메시지 수
+    public int getDroppedCount() {
+        return droppedMessages.get();
+    }
+
+    public void clear() {
+        buffers.clear();
+        queuedBytes.set(0);
+        overLimitSince = -1;
+    }
+}
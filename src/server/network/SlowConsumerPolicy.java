@@ -0,0 +1,20 @@
+/*
+ * server.network.SlowConsumerPolicy.java
+ * 송신 대기열이 high watermark 를 넘은 클라이언트를 어떻게 처리할지 나타내는 열거형
+ */
+
+package server.network;
+
+public enum SlowConsumerPolicy {
+    DROP,       // 대기열이 low watermark 아래로 내려갈 때까지 새 메시지를 버림 (연결은 유지)
+    DISCONNECT; // 정해진 시간 이상 high watermark 위에 머물거나 하드 리밋을 넘으면 연결을 끊음
+
+    public static SlowConsumerPolicy fromString(String value) {
+        for (SlowConsumerPolicy policy : SlowConsumerPolicy.values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("Invalid SlowConsumerPolicy: " + value);
+    }
+}
@@ -0,0 +1,150 @@
+/*
+ * server.network.SocketConnection.java
+ * 블로킹 소켓 기반 연결
+ * - 읽기는 readLoop 를 호출한 스레드(플랫폼 또는 가상 스레드)에서 수행함
+ * - 쓰기는 연결 전용 writer 가상 스레드가 송신 대기열을 비우면서 수행함
+ *   send 를 호출한 스레드(게임 스케줄러, 다른 클라이언트)는 소켓이 막혀도 기다리지 않음
+ *   연결 모드와 상관없이 가상 스레드를 씀 -> THREAD 모드에서도 연결당 플랫폼 스레드는 읽기 스레드 하나뿐
+ *   (writer 는 대부분 park 상태이고, 막힌 write 도 캐리어 스레드를 붙잡지 않음)
+ *   대기열에 여러 버퍼가 쌓여 있으면 쓰기 버퍼에 모아 한 번의 write 로 보냄
+ * 유휴 연결이 많아도 힙을 적게 쓰도록 Reader/Writer 계층(연결당 수십 KB 버퍼) 대신
+ * 작은 읽기 버퍼와 FrameDecoder 를 사용하고, 쓰기는 인코딩된 바이트를 소켓에 바로 씀
+ */
+
+package server.network;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Logger;
+
+public final class SocketConnection extends AbstractConnection {
+    private static final Logger logger = Logger.getLogger(SocketConnection.class.getName());
+    private static final int READ_BUFFER_SIZE = 1024;
+    private static final ThreadFactory WRITER_FACTORY = Thread.ofVirtual().name("socket-writer-", 0).factory();
+    private static final int WRITE_BUFFER_SIZE = 8 * 1024;
+
+    private final Socket socket;
+    private final InputStream in;
+    private final OutputStream out;
+    private final Thread writer;
+    private final String remoteAddress;
+    private volatile boolean closed = false;
+    // 여러 버퍼를 한 번에 쓸 때만 만듦 (유휴 연결은 쓰기 버퍼를 갖지 않음)
+    private byte[] writeBuffer;
+
+    /**
+     * @param socket 연결된 소켓
+     * @param limits 송신 대기열 한도
+     */
+    public SocketConnection(Socket socket, OutboundLimits limits) throws IOException {
+        super(limits);
+        this.socket = socket;
+        this.in = socket.getInputStream();
+        this.out = socket.getOutputStream();
+        this.remoteAddress = String.valueOf(socket.getInetAddress());
+        this.writer = WRITER_FACTORY.newThread(this::writeLoop);
+        this.writer.start();
+    }
+
+    /**
+     * 연결이 끊길 때까지 읽고, 완성된 프레임마다 리스너의 onMessage 를 호출합니다.
+     * 종료 처리는 호출한 쪽에서 합니다. (onClosed 는 호출하지 않음)
+     *
+     * @param listener 프레임을 받을 리스너
+     * @throws IOException 읽기 실패 또는 프레임 길이 초과
+     */
+    public void readLoop(ConnectionListener listener) throws IOException {
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        ByteBuffer wrapped = ByteBuffer.wrap(buffer);
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            wrapped.limit(read).position(0);
+            decoder.decode(wrapped, listener);
+        }
+    }
+
+    @Override
+    protected void wakeWriter() {
+        LockSupport.unpark(writer);
+    }
+
+    private void writeLoop() {
+        try {
+            while (!closed) {
+                ByteBuffer buffer;
+                while ((buffer = outbound.poll()) != null) {
+                    if (outbound.peek() == null || buffer.remaining() >= WRITE_BUFFER_SIZE) {
+                        writeDirect(buffer);
+                    } else {
+                        writeGathered(buffer);
+                    }
+                }
+                if (outbound.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+            }
+        } catch (IOException e) {
+            if (!closed) {
+                logger.warning("메시지 전송 실패: " + e.getMessage());
+            }
+            close();
+        } finally {
+            outbound.clear();
+        }
+    }
+
+    private void writeDirect(ByteBuffer buffer) throws IOException {
+        out.write(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        WriteStats.recordWrite();
+        outbound.written(buffer);
+    }
+
+    // 첫 버퍼와 뒤이어 쌓인 버퍼들을 쓰기 버퍼가 찰 때까지 모아 한 번에 씀
+    private void writeGathered(ByteBuffer first) throws IOException {
+        if (writeBuffer == null) {
+            writeBuffer = new byte[WRITE_BUFFER_SIZE];
+        }
+        int length = 0;
+        ByteBuffer buffer = first;
+        while (true) {
+            int size = buffer.remaining();
+            System.arraycopy(buffer.array(), buffer.arrayOffset() + buffer.position(), writeBuffer, length, size);
+            length += size;
+            outbound.written(buffer);
+
+            ByteBuffer next = outbound.peek();
+            if (next == null || length + next.remaining() > WRITE_BUFFER_SIZE) {
+                break;
+            }
+            buffer = outbound.poll();
+        }
+        out.write(writeBuffer, 0, length);
+        WriteStats.recordWrite();
+    }
+
+    @Override
+    public boolean isOpen() {
+        return !closed && !socket.isClosed();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        try {
+            if (!socket.isClosed()) socket.close();
+        } catch (IOException e) {
+            logger.severe("리소스 정리 중 오류 발생: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public String getRemoteAddress() {
+        return remoteAddress;
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * server.network.WriteBatch.java
+ * 스레드 단위 송신 배치
+ * 명령 하나 처리(또는 스케줄러 틱 하나) 동안 보내는 메시지를 연결별로 모아 두었다가,
+ * 배치가 끝날 때 연결마다 한 번만 송신 대기열에 넣음 -> 한 번의 write 로 전송됨
+ * 예) 단어 맞춤 시 WORD_MATCHED + PH_UPDATE x2 가 한 번의 write 로 나감
+ * begin/end 는 중첩할 수 있고, 가장 바깥의 end 에서만 전송함
+ */
+
+package server.network;
+
+import server.ServerConfig;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class WriteBatch {
+    private static final boolean ENABLED =
+            Boolean.parseBoolean(ServerConfig.getProperty(ServerConfig.WRITE_COALESCE, "true"));
+    private static final ThreadLocal<WriteBatch> CURRENT = new ThreadLocal<>();
+
+    // 연결별로 모인 메시지, 처음 보낸 순서대로 전송함
+    // 인코딩은 전송 시점의 연결 형식(텍스트/바이너리)으로 하므로 인코딩 전 메시지로 보관함
+    private final Map<AbstractConnection, List<OutboundMessage>> pending = new LinkedHashMap<>();
+    private int depth = 0;
+
+    private WriteBatch() {
+    }
+
+    public static boolean isEnabled() {
+        return ENABLED;
+    }
+
+    /**
+     * 현재 스레드에서 배치를 시작합니다. 반드시 finally 에서 {@link #end()} 를 호출해야 합니다.
+     */
+    public static void begin() {
+        if (!ENABLED) {
+            return;
+        }
+        WriteBatch batch = CURRENT.get();
+        if (batch == null) {
+            batch = new WriteBatch();
+            CURRENT.set(batch);
+        }
+        batch.depth++;
+    }
+
+    /**
+     * 현재 스레드의 배치를 끝냅니다. 가장 바깥의 end 에서 모인 메시지를 연결별로 한 번에 전송합니다.
+     */
+    public static void end() {
+        WriteBatch batch = CURRENT.get();
+        if (batch == null || --batch.depth > 0) {
+            return;
+        }
+        // 가상 스레드가 많아도 배치가 남지 않도록 스레드에서 떼어낸 뒤 전송
+        CURRENT.remove();
+        batch.flush();
+    }
+
+    // 작업 하나를 배치로 감싸서 실행
+    public static void run(Runnable task) {
+        begin();
+        try {
+            task.run();
+        } finally {
+            end();
+        }
+    }
+
+    static WriteBatch current() {
+        return CURRENT.get();
+    }
+
+    void append(AbstractConnection connection, OutboundMessage message) {
+        pending.computeIfAbsent(connection, c -> new ArrayList<>(4)).add(message);
+    }
+
+    // 연결에 모인 메시지를 배치에서 꺼냄 (전송 형식을 바꾸기 전에 먼저 내보낼 때 사용)
+    List<OutboundMessage> remove(AbstractConnection connection) {
+        return pending.remove(connection);
+    }
+
+    private void flush() {
+        for (Map.Entry<AbstractConnection, List<OutboundMessage>> entry : pending.entrySet()) {
+            AbstractConnection connection = entry.getKey();
+            if (connection.isOpen()) {
+                connection.sendAll(entry.getValue());
+            }
+        }
+        pending.clear();
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * server.network.WriteStats.java
+ * 송신 통계
+ * - 보낸 메시지(줄) 수와 실제 소켓 write 호출 수를 세고, 그 차이를 절약한 syscall 로 봄
+ * - report 는 직전 호출 이후의 초당 값을 계산함
+ */
+
+package server.network;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public final class WriteStats {
+    private static final LongAdder messages = new LongAdder();
+    private static final LongAdder writes = new LongAdder();
+
+    private static long lastMessages = 0;
+    private static long lastWrites = 0;
+    private static long lastReportTime = System.nanoTime();
+
+    private WriteStats() {
+    }
+
+    static void recordMessage() {
+        messages.increment();
+    }
+
+    static void recordWrite() {
+        writes.increment();
+    }
+
+    public static long getMessageCount() {
+        return messages.sum();
+    }
+
+    public static long getWriteCount() {
+        return writes.sum();
+    }
+
+    public static long getSavedWriteCount() {
+        return Math.max(0, messages.sum() - writes.sum());
+    }
+
+    /**
+     * 직전 report 호출 이후의 초당 메시지 수, write 호출 수, 절약한 syscall 수를 문자열로 반환합니다.
+     */
+    public static synchronized String report() {
+        long now = System.nanoTime();
+        long currentMessages = messages.sum();
+        long currentWrites = writes.sum();
+        double seconds = Math.max((now - lastReportTime) / 1_000_000_000.0, 0.001);
+
+        long messageRate = Math.round((currentMessages - lastMessages) / seconds);
+        long writeRate = Math.round((currentWrites - lastWrites) / seconds);
+        long savedRate = Math.max(0, messageRate - writeRate);
+
+        lastMessages = currentMessages;
+        lastWrites = currentWrites;
+        lastReportTime = now;
+
+        return String.format("메시지 %d/s, write 호출 %d/s, 절약한 syscall %d/s (누적 절약 %d)",
+                messageRate, writeRate, savedRate, getSavedWriteCount());
+    }
+}